@@ -0,0 +1,279 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop load generator for comparing platform and virtual request threads.
+ * <p>
+ * Logs in as the given user, seeds projects and tasks through the API, then lets {@code --clients}
+ * concurrent clients send requests back to back (plus {@code --think-millis}) for the warm-up and
+ * the measured duration. The mix is the morning-rush one: project list, tasks of a random project
+ * and a share of task creations. Prints throughput and latency percentiles of the measured part
+ * and appends them to {@code --out} as CSV.
+ * <p>
+ * Needs only a JDK 21: {@code java benchmark/ThreadModeBenchmark.java --url http://localhost:8080 --label virtual}.
+ * See {@code run-thread-benchmark.sh} for running both modes against identical servers.
+ */
+public class ThreadModeBenchmark {
+
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern USER_ID = Pattern.compile("\"user\"\\s*:\\s*\\{[^}]*?\"id\"\\s*:\\s*(\\d+)");
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    private final Map<String, String> options;
+    private final String baseUrl;
+    private final HttpClient http;
+    private String token;
+
+    private ThreadModeBenchmark(Map<String, String> options) {
+        this.options = options;
+        this.baseUrl = option("url", "http://localhost:8080");
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected --option value pairs, got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        new ThreadModeBenchmark(options).run();
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    private int intOption(String name, int defaultValue) {
+        return Integer.parseInt(option(name, Integer.toString(defaultValue)));
+    }
+
+    private void run() throws Exception {
+        String label = option("label", "unnamed");
+        int clients = intOption("clients", 1000);
+        int warmupSeconds = intOption("warmup", 15);
+        int durationSeconds = intOption("duration", 60);
+        int thinkMillis = intOption("think-millis", 0);
+        int writePercent = intOption("write-percent", 10);
+        long seed = Long.parseLong(option("seed", "42"));
+
+        long userId = login(option("username", "admin"), option("password", "admin"));
+        List<Long> projects = seed(userId, intOption("projects", 20), intOption("tasks-per-project", 200));
+        System.out.printf("[%s] %d clients, %d s warm-up, %d s measured, %d%% writes, %d projects%n",
+                label, clients, warmupSeconds, durationSeconds, writePercent, projects.size());
+
+        long warmupEnd = System.nanoTime() + Duration.ofSeconds(warmupSeconds).toNanos();
+        long end = warmupEnd + Duration.ofSeconds(durationSeconds).toNanos();
+        long[][] latencies = new long[clients][];
+        Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(clients);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int client = 0; client < clients; client++) {
+                int index = client;
+                SplittableRandom random = new SplittableRandom(seed + client);
+                executor.execute(() -> {
+                    try {
+                        latencies[index] = runClient(random, projects, writePercent, thinkMillis, warmupEnd, end, errors);
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+        }
+
+        report(label, clients, durationSeconds, latencies, errors);
+    }
+
+    private long[] runClient(SplittableRandom random, List<Long> projects, int writePercent, int thinkMillis,
+                             long warmupEnd, long end, Map<String, LongAdder> errors) {
+        long[] samples = new long[1024];
+        int count = 0;
+
+        while (true) {
+            long start = System.nanoTime();
+            if (start >= end) {
+                break;
+            }
+            HttpRequest request = nextRequest(random, projects, writePercent);
+            String outcome;
+            try {
+                HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                outcome = response.statusCode() < 400 ? null : "HTTP " + response.statusCode();
+            } catch (IOException e) {
+                outcome = e.getClass().getSimpleName();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            long finished = System.nanoTime();
+
+            if (start >= warmupEnd && finished <= end) {
+                if (outcome != null) {
+                    errors.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+                } else {
+                    if (count == samples.length) {
+                        samples = Arrays.copyOf(samples, count * 2);
+                    }
+                    samples[count++] = finished - start;
+                }
+            }
+            if (thinkMillis > 0) {
+                try {
+                    Thread.sleep(thinkMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        return Arrays.copyOf(samples, count);
+    }
+
+    private HttpRequest nextRequest(SplittableRandom random, List<Long> projects, int writePercent) {
+        int roll = random.nextInt(100);
+        long projectId = projects.get(random.nextInt(projects.size()));
+        if (roll < writePercent) {
+            return authorized("/api/tasks")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(taskJson(projectId, "Benchmark task " + random.nextInt())))
+                    .build();
+        }
+        if (roll < writePercent + (100 - writePercent) / 2) {
+            return authorized("/api/projects").GET().build();
+        }
+        return authorized("/api/tasks/project/" + projectId).GET().build();
+    }
+
+    private void report(String label, int clients, int durationSeconds, long[][] latencies, Map<String, LongAdder> errors)
+            throws IOException {
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        long errorCount = errors.values().stream().mapToLong(LongAdder::sum).sum();
+        double throughput = (double) all.length / durationSeconds;
+
+        System.out.printf("[%s] %d ok, %d errors %s%n", label, all.length, errorCount, errorSummary(errors));
+        System.out.printf("[%s] throughput %.1f req/s, latency ms p50 %.1f  p90 %.1f  p99 %.1f  p99.9 %.1f  max %.1f%n",
+                label, throughput, millis(all, 0.50), millis(all, 0.90), millis(all, 0.99), millis(all, 0.999),
+                all.length == 0 ? 0 : all[all.length - 1] / 1_000_000.0);
+
+        String out = option("out", "");
+        if (!out.isBlank()) {
+            Path path = Path.of(out);
+            if (!Files.exists(path)) {
+                Files.writeString(path, "label,clients,duration_s,ok,errors,throughput_rps,p50_ms,p90_ms,p99_ms,p999_ms,max_ms\n");
+            }
+            String line = String.format(Locale.ROOT, "%s,%d,%d,%d,%d,%.1f,%.1f,%.1f,%.1f,%.1f,%.1f%n",
+                    label, clients, durationSeconds, all.length, errorCount, throughput,
+                    millis(all, 0.50), millis(all, 0.90), millis(all, 0.99), millis(all, 0.999),
+                    all.length == 0 ? 0 : all[all.length - 1] / 1_000_000.0);
+            Files.writeString(path, line, StandardOpenOption.APPEND);
+        }
+    }
+
+    private static String errorSummary(Map<String, LongAdder> errors) {
+        if (errors.isEmpty()) {
+            return "";
+        }
+        List<String> parts = new ArrayList<>();
+        errors.forEach((outcome, count) -> parts.add(outcome + " x" + count.sum()));
+        return parts.toString();
+    }
+
+    private static double millis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private long login(String username, String password) throws IOException, InterruptedException {
+        String body = "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}";
+        String response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+        token = extract(ACCESS_TOKEN, response, "access token");
+        return Long.parseLong(extract(USER_ID, response, "user id"));
+    }
+
+    private List<Long> seed(long ownerId, int projectCount, int tasksPerProject) throws IOException, InterruptedException {
+        List<Long> projects = new ArrayList<>();
+        for (int p = 0; p < projectCount; p++) {
+            String project = send(authorized("/api/projects?ownerId=" + ownerId)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"name\":\"Benchmark project " + p + "\",\"description\":\"Seeded by ThreadModeBenchmark\"}"))
+                    .build());
+            long projectId = Long.parseLong(extract(ID, project, "project id"));
+            projects.add(projectId);
+
+            StringBuilder tasks = new StringBuilder("[");
+            for (int t = 0; t < tasksPerProject; t++) {
+                tasks.append(t == 0 ? "" : ",").append(taskJson(projectId, "Seeded task " + t));
+            }
+            send(authorized("/api/tasks/bulk")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(tasks.append(']').toString()))
+                    .build());
+        }
+        return projects;
+    }
+
+    private static String taskJson(long projectId, String title) {
+        return "{\"title\":\"" + title + "\",\"description\":\"Created by the thread mode benchmark\","
+                + "\"priority\":\"MEDIUM\",\"projectId\":" + projectId + "}";
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(60))
+                .header("Authorization", "Bearer " + token);
+    }
+
+    private String send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        if (response.statusCode() >= 400) {
+            throw new UncheckedIOException(new IOException(
+                    request.method() + " " + request.uri() + " returned " + response.statusCode() + ": " + response.body()));
+        }
+        return response.body();
+    }
+
+    private static String extract(Pattern pattern, String body, String what) {
+        Matcher matcher = pattern.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("No " + what + " in response: " + body);
+        }
+        return matcher.group(1);
+    }
+}
@@ -0,0 +1,88 @@
+#!/usr/bin/env bash
+# Compares platform and virtual request threads on identical, freshly seeded servers.
+#
+# Every mode gets its own in-memory database and the same seed, and rate limiting, load
+# shedding and read coalescing are switched off, so only the threading model differs.
+# Results are appended to $OUT as CSV, pinned virtual thread sites are printed after the
+# virtual run. Needs JDK 21 on the PATH.
+#
+# Usage: benchmark/run-thread-benchmark.sh [clients] [duration-seconds]
+#   env: MODES="platform virtual"  WARMUP=15  THINK_MILLIS=0  WRITE_PERCENT=10
+#        POOL_SIZE=10 (Hikari)  TOMCAT_THREADS=200  PORT=18080  SKIP_BUILD=1  OUT=...
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+CLIENTS="${1:-1000}"
+DURATION="${2:-60}"
+MODES="${MODES:-platform virtual}"
+WARMUP="${WARMUP:-15}"
+THINK_MILLIS="${THINK_MILLIS:-0}"
+WRITE_PERCENT="${WRITE_PERCENT:-10}"
+POOL_SIZE="${POOL_SIZE:-10}"
+TOMCAT_THREADS="${TOMCAT_THREADS:-200}"
+PORT="${PORT:-18080}"
+OUT="${OUT:-build/thread-benchmark-$(date +%Y%m%d-%H%M%S).csv}"
+
+# Each client holds a connection on both ends
+ulimit -n 65536 2>/dev/null || echo "Could not raise the open file limit, $CLIENTS clients may fail to connect"
+
+if [ -z "${SKIP_BUILD:-}" ]; then
+  ./gradlew --quiet bootJar
+fi
+JAR="$(ls build/libs/*.jar | grep -v plain | head -n 1)"
+mkdir -p "$(dirname "$OUT")"
+
+for MODE in $MODES; do
+  VIRTUAL=false
+  [ "$MODE" = "virtual" ] && VIRTUAL=true
+  LOG="build/thread-benchmark-$MODE.log"
+
+  echo "Starting server with $MODE threads (log: $LOG)"
+  java -Djdk.tracePinnedThreads=short -jar "$JAR" --init-data \
+    --server.port="$PORT" \
+    --spring.threads.virtual.enabled="$VIRTUAL" \
+    --server.tomcat.threads.max="$TOMCAT_THREADS" \
+    --spring.datasource.hikari.maximum-pool-size="$POOL_SIZE" \
+    --spring.datasource.url="jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1" \
+    --spring.jpa.show-sql=false \
+    --logging.level.root=WARN \
+    --logging.level.cz.pavel.taskmanagement=WARN \
+    --logging.level.cz.pavel.taskmanagement.backend.threads=INFO \
+    --logging.level.org.springframework.web=WARN \
+    --logging.level.org.hibernate.SQL=WARN \
+    --tasker.jwt.keys-file= \
+    --tasker.rate-limit.enabled=false \
+    --tasker.concurrency-limit.enabled=false \
+    --tasker.read-coalescing.enabled=false \
+    > "$LOG" 2>&1 &
+  SERVER=$!
+  trap 'kill $SERVER 2>/dev/null || true' EXIT
+
+  for _ in $(seq 1 120); do
+    curl --silent --fail "http://localhost:$PORT/api/health" > /dev/null && break
+    sleep 1
+  done
+
+  java benchmark/ThreadModeBenchmark.java \
+    --url "http://localhost:$PORT" \
+    --label "$MODE" \
+    --clients "$CLIENTS" \
+    --warmup "$WARMUP" \
+    --duration "$DURATION" \
+    --think-millis "$THINK_MILLIS" \
+    --write-percent "$WRITE_PERCENT" \
+    --out "$OUT"
+
+  if [ "$VIRTUAL" = true ]; then
+    grep -A 12 "Virtual thread pinned" "$LOG" || echo "No pinned virtual threads reported"
+  fi
+
+  kill "$SERVER"
+  wait "$SERVER" 2>/dev/null || true
+  trap - EXIT
+done
+
+echo
+column -s, -t < "$OUT"
@@ -0,0 +1,19 @@
+package cz.pavel.taskmanagement.backend.coalesce;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read method whose concurrent identical calls may share one execution, see
+ * {@link ReadCoalescingAspect}. Only for methods without side effects whose arguments
+ * implement {@code equals}. The returned value is shared between the callers, so such methods
+ * return unmodifiable collections ({@code Stream.toList()}, {@code List.copyOf}).
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesced {
+}
@@ -0,0 +1,83 @@
+package cz.pavel.taskmanagement.backend.coalesce;
+
+import cz.pavel.taskmanagement.backend.dto.metrics.CoalescingStatsDTO;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Single-flight execution of {@link Coalesced} service methods. Concurrent calls with the same
+ * method, arguments and granted authorities share one execution, so a burst of identical list
+ * requests runs the queries and DTO mapping once.
+ * <p>
+ * The aspect runs outside the transaction advice, so waiting callers do not hold a connection,
+ * and calls made from within a transaction always run on their own.
+ * Every committed read-write transaction starts a new epoch, which is part of the key: a read
+ * issued after a commit never joins a computation that may have started before it.
+ */
+@Aspect
+@Component
+@Order(0)
+public class ReadCoalescingAspect implements TransactionExecutionListener {
+
+    private record FlightKey(Method method, List<Object> arguments, Set<String> scope, long epoch) {
+    }
+
+    private final boolean enabled;
+    private final SingleFlight<FlightKey> flights = new SingleFlight<>();
+    private final AtomicLong epoch = new AtomicLong();
+
+    public ReadCoalescingAspect(@Value("${tasker.read-coalescing.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Around("@annotation(cz.pavel.taskmanagement.backend.coalesce.Coalesced)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        // A caller inside a transaction may have uncommitted changes another caller's result would miss
+        if (!enabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        FlightKey key = new FlightKey(method, Arrays.asList(joinPoint.getArgs()), currentScope(), epoch.get());
+        return flights.execute(key, joinPoint::proceed);
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && !transaction.isReadOnly()) {
+            epoch.incrementAndGet();
+        }
+    }
+
+    public CoalescingStatsDTO getStats() {
+        return new CoalescingStatsDTO(enabled, flights.getInFlight(), flights.getExecuted(), flights.getCoalesced());
+    }
+
+    private static Set<String> currentScope() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return Set.of();
+        }
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,64 @@
+package cz.pavel.taskmanagement.backend.config;
+
+import cz.pavel.taskmanagement.backend.entity.Project;
+import cz.pavel.taskmanagement.backend.entity.User;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Second-level cache regions for users and projects. Each region holds at most
+ * {@code max-entries} entities and drops them {@code ttl-seconds} after they were cached,
+ * so rows changed behind Hibernate's back (other instances, the H2 console) are picked up
+ * again eventually. Regions are configured here instead of an ehcache.xml, and every
+ * application context gets its own cache manager. Hit and miss counters are only kept
+ * when {@code tasker.cache.statistics} is on.
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(
+            @Value("${tasker.cache.users.max-entries:10000}") long userEntries,
+            @Value("${tasker.cache.users.ttl-seconds:600}") long userTtl,
+            @Value("${tasker.cache.projects.max-entries:10000}") long projectEntries,
+            @Value("${tasker.cache.projects.ttl-seconds:600}") long projectTtl) {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        org.ehcache.config.Configuration configuration = ConfigurationBuilder.newConfigurationBuilder()
+                .withCache(User.CACHE_REGION, region(userEntries, userTtl))
+                .withCache(Project.CACHE_REGION, region(projectEntries, projectTtl))
+                .build();
+        return provider.getCacheManager(URI.create("urn:tasker:entity-cache:" + UUID.randomUUID()), configuration);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(
+            CacheManager entityCacheManager,
+            @Value("${tasker.cache.statistics:false}") boolean statistics) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+            properties.put(AvailableSettings.GENERATE_STATISTICS, statistics);
+        };
+    }
+
+    private static CacheConfiguration<Object, Object> region(long maxEntries, long ttlSeconds) {
+        return CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(ttlSeconds)))
+                .build();
+    }
+}
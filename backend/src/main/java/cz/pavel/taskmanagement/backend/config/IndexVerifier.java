@@ -0,0 +1,96 @@
+package cz.pavel.taskmanagement.backend.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Checks at startup that the live schema has the indexes the repository queries rely on.
+ * An index counts as present when its leading columns match, whatever its name is.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IndexVerifier {
+
+    static final Map<String, List<List<String>>> EXPECTED_INDEXES = Map.of(
+            "tasks", List.of(
+                    List.of("project_id", "status"),
+                    List.of("assignee_id", "status"),
+                    List.of("due_date")),
+            "projects", List.of(
+                    List.of("owner_id")),
+            "users", List.of(
+                    List.of("username")),
+            "task_templates", List.of(
+                    List.of("project_id"),
+                    List.of("next_occurrence")),
+            "revoked_tokens", List.of(
+                    List.of("expires_at"))
+    );
+
+    private final DataSource dataSource;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyIndexes() {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            int missing = 0;
+
+            for (Map.Entry<String, List<List<String>>> table : EXPECTED_INDEXES.entrySet()) {
+                List<List<String>> existing = readIndexes(metaData, table.getKey());
+                for (List<String> expected : table.getValue()) {
+                    if (existing.stream().noneMatch(columns -> startsWith(columns, expected))) {
+                        log.warn("Missing index on {}({}) - queries on it will scan the table",
+                                table.getKey(), String.join(", ", expected));
+                        missing++;
+                    }
+                }
+            }
+
+            if (missing == 0) {
+                log.info("All expected indexes are present");
+            }
+        } catch (SQLException e) {
+            log.warn("Could not verify database indexes: {}", e.getMessage());
+        }
+    }
+
+    private List<List<String>> readIndexes(DatabaseMetaData metaData, String table) throws SQLException {
+        String tableName = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+        Map<String, TreeMap<Short, String>> indexes = new TreeMap<>();
+
+        try (ResultSet rs = metaData.getIndexInfo(null, null, tableName, false, true)) {
+            while (rs.next()) {
+                String indexName = rs.getString("INDEX_NAME");
+                String column = rs.getString("COLUMN_NAME");
+                if (indexName == null || column == null) {
+                    continue;
+                }
+                indexes.computeIfAbsent(indexName, name -> new TreeMap<>())
+                        .put(rs.getShort("ORDINAL_POSITION"), column.toLowerCase(Locale.ROOT));
+            }
+        }
+
+        List<List<String>> result = new ArrayList<>();
+        indexes.values().forEach(columns -> result.add(new ArrayList<>(columns.values())));
+        return result;
+    }
+
+    private static boolean startsWith(List<String> columns, List<String> prefix) {
+        return columns.size() >= prefix.size() && columns.subList(0, prefix.size()).equals(prefix);
+    }
+}
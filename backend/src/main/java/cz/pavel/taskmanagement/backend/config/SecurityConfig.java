@@ -1,8 +1,11 @@
 package cz.pavel.taskmanagement.backend.config;
 
+import cz.pavel.taskmanagement.backend.security.ConcurrencyLimitFilter;
 import cz.pavel.taskmanagement.backend.security.JwtAccessDeniedHandler;
 import cz.pavel.taskmanagement.backend.security.JwtAuthenticationEntryPoint;
 import cz.pavel.taskmanagement.backend.security.JwtAuthenticationFilter;
+import cz.pavel.taskmanagement.backend.security.PasswordPolicy;
+import cz.pavel.taskmanagement.backend.security.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -16,7 +19,6 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -32,11 +34,12 @@ public class SecurityConfig {
             "/api/health/",
             "/h2-console/",
             "/swagger-ui/",
-            "/api-docs/",
-            "/rehash-passwords/"
+            "/api-docs/"
     );
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
 
@@ -67,6 +70,14 @@ public class SecurityConfig {
                         jwtAuthenticationFilter,
                         UsernamePasswordAuthenticationFilter.class
                 )
+                .addFilterBefore(
+                        concurrencyLimitFilter,
+                        JwtAuthenticationFilter.class
+                )
+                .addFilterBefore(
+                        rateLimitFilter,
+                        ConcurrencyLimitFilter.class
+                )
 
                 .headers(headers -> headers.frameOptions(HeadersConfigurer.FrameOptionsConfig::disable));
 
@@ -74,8 +85,8 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordPolicy passwordPolicy) {
+        return passwordPolicy.encoder();
     }
 
     @Bean
@@ -0,0 +1,52 @@
+package cz.pavel.taskmanagement.backend.config;
+
+import cz.pavel.taskmanagement.backend.entity.Task;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Tasks used IDENTITY ids before they moved to a pooled sequence. On databases created
+ * before that, the new sequence starts below existing ids, so it is restarted past them
+ * before the first insert. Depends on the EntityManagerFactory so it runs after the
+ * schema update has created the sequence.
+ * <p>
+ * Only H2 databases predate the sequence and the lookup reads H2's INFORMATION_SCHEMA, so
+ * other databases are left alone.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SequenceAligner {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void alignTaskSequence() {
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        if (!(dialect instanceof H2Dialect)) {
+            log.debug("Skipping {} alignment on {}", Task.ID_SEQUENCE, dialect.getClass().getSimpleName());
+            return;
+        }
+
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM tasks", Long.class);
+        List<Long> current = jdbcTemplate.queryForList(
+                "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE LOWER(SEQUENCE_NAME) = ?",
+                Long.class, Task.ID_SEQUENCE);
+
+        if (maxId != null && !current.isEmpty() && current.getFirst() <= maxId) {
+            long restart = maxId + Task.ID_ALLOCATION_SIZE + 1;
+            jdbcTemplate.execute("ALTER SEQUENCE " + Task.ID_SEQUENCE + " RESTART WITH " + restart);
+            log.info("Restarted {} at {} to stay above existing task ids", Task.ID_SEQUENCE, restart);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package cz.pavel.taskmanagement.backend.controller;
+
+import cz.pavel.taskmanagement.backend.dto.job.JobResponseDTO;
+import cz.pavel.taskmanagement.backend.service.PasswordRehashService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Admin controller", description = "Maintenance operations")
+public class AdminController {
+
+    private final PasswordRehashService passwordRehashService;
+
+    @PostMapping("/rehash-passwords")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Rehash passwords", description = "Strengthen stored password hashes below the current BCrypt cost in the background")
+    public ResponseEntity<JobResponseDTO> rehashPasswords() {
+        log.info("POST /api/admin/rehash-passwords - Starting password rehash");
+        JobResponseDTO job = passwordRehashService.rehashPasswords();
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/jobs/" + job.getId()))
+                .body(job);
+    }
+}
@@ -0,0 +1,43 @@
+package cz.pavel.taskmanagement.backend.controller;
+
+import cz.pavel.taskmanagement.backend.dto.cache.CacheRegionStatsDTO;
+import cz.pavel.taskmanagement.backend.service.CacheStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Cache controller", description = "Second-level cache statistics")
+public class CacheController {
+
+    private final CacheStatsService cacheStatsService;
+
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get cache statistics", description = "Hits, misses and size of the user and project cache regions, empty when statistics are off")
+    public ResponseEntity<List<CacheRegionStatsDTO>> getStats() {
+        log.info("GET /api/cache/stats - Fetching cache statistics");
+        return ResponseEntity.ok(cacheStatsService.getRegionStats());
+    }
+
+    @DeleteMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Clear cache", description = "Evict every cached user and project")
+    public ResponseEntity<Void> evictAll() {
+        log.info("DELETE /api/cache - Evicting cached entities");
+        cacheStatsService.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,34 @@
+package cz.pavel.taskmanagement.backend.controller;
+
+import cz.pavel.taskmanagement.backend.dto.job.JobResponseDTO;
+import cz.pavel.taskmanagement.backend.exception.ResourceNotFoundException;
+import cz.pavel.taskmanagement.backend.job.JobRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Job controller", description = "Background job progress")
+public class JobController {
+
+    private final JobRegistry jobRegistry;
+
+    @GetMapping("{id}")
+    @Operation(summary = "Get job progress", description = "Status and progress of a background job")
+    public ResponseEntity<JobResponseDTO> getJob(@PathVariable String id) {
+        log.info("GET /api/jobs/{} - Fetching job", id);
+        JobResponseDTO job = jobRegistry.find(id)
+                .map(JobResponseDTO::new)
+                .orElseThrow(() -> new ResourceNotFoundException("Job", id));
+        return ResponseEntity.ok(job);
+    }
+}
@@ -0,0 +1,64 @@
+package cz.pavel.taskmanagement.backend.controller;
+
+import cz.pavel.taskmanagement.backend.coalesce.ReadCoalescingAspect;
+import cz.pavel.taskmanagement.backend.dto.metrics.CoalescingStatsDTO;
+import cz.pavel.taskmanagement.backend.dto.metrics.ConcurrencyLimitStatsDTO;
+import cz.pavel.taskmanagement.backend.dto.metrics.ExecutorStatsDTO;
+import cz.pavel.taskmanagement.backend.dto.metrics.VirtualThreadStatsDTO;
+import cz.pavel.taskmanagement.backend.security.ConcurrencyLimitFilter;
+import cz.pavel.taskmanagement.backend.security.PasswordHashingExecutor;
+import cz.pavel.taskmanagement.backend.threads.PinningMonitor;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/metrics")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Metrics controller", description = "Load and capacity metrics")
+public class MetricsController {
+
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
+    private final ReadCoalescingAspect readCoalescingAspect;
+    private final PinningMonitor pinningMonitor;
+
+    @GetMapping("/password-hashing")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get password hashing metrics", description = "Pool size, queue depth, rejections and wait time of the password hashing executor")
+    public ResponseEntity<ExecutorStatsDTO> getPasswordHashingStats() {
+        log.info("GET /api/metrics/password-hashing - Fetching password hashing metrics");
+        return ResponseEntity.ok(passwordHashingExecutor.getStats());
+    }
+
+    @GetMapping("/concurrency-limit")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get concurrency limit metrics", description = "Current adaptive limit, requests in flight, observed latency and shed requests")
+    public ResponseEntity<ConcurrencyLimitStatsDTO> getConcurrencyLimitStats() {
+        log.info("GET /api/metrics/concurrency-limit - Fetching concurrency limit metrics");
+        return ResponseEntity.ok(concurrencyLimitFilter.getStats());
+    }
+
+    @GetMapping("/read-coalescing")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get read coalescing metrics", description = "Shared reads in flight, reads executed and reads that joined an identical one in flight")
+    public ResponseEntity<CoalescingStatsDTO> getReadCoalescingStats() {
+        log.info("GET /api/metrics/read-coalescing - Fetching read coalescing metrics");
+        return ResponseEntity.ok(readCoalescingAspect.getStats());
+    }
+
+    @GetMapping("/virtual-threads")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get virtual thread metrics", description = "Whether virtual threads are enabled and where they were pinned to their carrier")
+    public ResponseEntity<VirtualThreadStatsDTO> getVirtualThreadStats() {
+        log.info("GET /api/metrics/virtual-threads - Fetching virtual thread metrics");
+        return ResponseEntity.ok(pinningMonitor.getStats());
+    }
+}
@@ -1,9 +1,14 @@
 package cz.pavel.taskmanagement.backend.controller;
 
+import cz.pavel.taskmanagement.backend.dto.job.JobResponseDTO;
+import cz.pavel.taskmanagement.backend.dto.project.ProjectBoardDTO;
 import cz.pavel.taskmanagement.backend.dto.project.ProjectCreateDTO;
 import cz.pavel.taskmanagement.backend.dto.project.ProjectResponseDTO;
 import cz.pavel.taskmanagement.backend.dto.project.ProjectUpdateDTO;
+import cz.pavel.taskmanagement.backend.dto.task.TaskPageDTO;
+import cz.pavel.taskmanagement.backend.entity.TaskStatus;
 import cz.pavel.taskmanagement.backend.service.ProjectService;
+import cz.pavel.taskmanagement.backend.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -14,6 +19,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
 
 @RestController
@@ -24,6 +30,7 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final TaskService taskService;
 
     @GetMapping
     @Operation(summary = "Get all projects", description = "Retrieve a list of all projects in the system")
@@ -41,6 +48,30 @@ public class ProjectController {
         return ResponseEntity.ok(project);
     }
 
+    @GetMapping("{id}/board")
+    @Operation(summary = "Get project board", description = "First page of every status column with per-column totals")
+    public ResponseEntity<ProjectBoardDTO> getProjectBoard(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(defaultValue = "50") Integer perColumn) {
+        log.info("GET /api/projects/{}/board - Fetching project board", id);
+        ProjectBoardDTO board = taskService.getProjectBoard(id, sort, perColumn);
+        return ResponseEntity.ok(board);
+    }
+
+    @GetMapping("{id}/board/{status}")
+    @Operation(summary = "Get board column page", description = "Next page of one board column, pass the column's nextCursor")
+    public ResponseEntity<TaskPageDTO> getBoardColumnPage(
+            @PathVariable Long id,
+            @PathVariable TaskStatus status,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") Integer limit) {
+        log.info("GET /api/projects/{}/board/{} - Fetching board column", id, status);
+        TaskPageDTO page = taskService.getBoardColumnPage(id, status, sort, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/owner/{ownerId}")
     @Operation(summary = "Get project by owner ID", description = "Retrieve a specific project by its owner")
     public ResponseEntity<List<ProjectResponseDTO>> getProjectsByOwnerId(@PathVariable Long ownerId) {
@@ -71,10 +102,12 @@ public class ProjectController {
 
     @DeleteMapping("{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Delete project", description = "Remove project from the system")
-    public ResponseEntity<Void> deleteProject(@PathVariable Long id) {
+    @Operation(summary = "Delete project", description = "Hide the project and remove it with its tasks in the background, poll the returned job")
+    public ResponseEntity<JobResponseDTO> deleteProject(@PathVariable Long id) {
         log.info("DELETE /api/project - Deleting project id {}", id);
-        projectService.deleteProject(id);
-        return ResponseEntity.noContent().build();
+        JobResponseDTO job = projectService.deleteProject(id);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/jobs/" + job.getId()))
+                .body(job);
     }
 }
@@ -1,19 +1,31 @@
 package cz.pavel.taskmanagement.backend.controller;
 
+import cz.pavel.taskmanagement.backend.dto.task.TaskBulkResultDTO;
+import cz.pavel.taskmanagement.backend.dto.task.TaskBulkUpdateDTO;
+import cz.pavel.taskmanagement.backend.dto.task.TaskBulkUpdateResultDTO;
 import cz.pavel.taskmanagement.backend.dto.task.TaskCreateDTO;
+import cz.pavel.taskmanagement.backend.dto.task.TaskPageDTO;
 import cz.pavel.taskmanagement.backend.dto.task.TaskResponseDTO;
+import cz.pavel.taskmanagement.backend.dto.task.TaskSearchCriteria;
 import cz.pavel.taskmanagement.backend.dto.task.TaskUpdateDTO;
 import cz.pavel.taskmanagement.backend.entity.TaskStatus;
+import cz.pavel.taskmanagement.backend.service.TaskBulkService;
+import cz.pavel.taskmanagement.backend.service.TaskExportService;
 import cz.pavel.taskmanagement.backend.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -24,6 +36,8 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskBulkService taskBulkService;
 
     @GetMapping
     @Operation(summary = "Get all tasks")
@@ -65,6 +79,92 @@ public class TaskController {
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping("/page")
+    @Operation(summary = "Get page of all tasks", description = "Cursor based page of tasks, pass nextCursor back to continue")
+    public ResponseEntity<TaskPageDTO> getTasksPage(
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        log.info("GET /api/tasks/page - Fetching task page sorted by {}", sort);
+        TaskPageDTO page = taskService.getTasksPage(sort, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/project/{projectId}/page")
+    @Operation(summary = "Get page of tasks by project")
+    public ResponseEntity<TaskPageDTO> getTasksByProjectPage(
+            @PathVariable Long projectId,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        log.info("GET /api/tasks/project/{}/page - Fetching task page by project", projectId);
+        TaskPageDTO page = taskService.getTasksByProjectPage(projectId, sort, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/assignee/{assigneeId}/page")
+    @Operation(summary = "Get page of tasks by assignee")
+    public ResponseEntity<TaskPageDTO> getTasksByAssigneePage(
+            @PathVariable Long assigneeId,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        log.info("GET /api/tasks/assignee/{}/page - Fetching task page by assignee", assigneeId);
+        TaskPageDTO page = taskService.getTasksByAssigneePage(assigneeId, sort, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/status/{status}/page")
+    @Operation(summary = "Get page of tasks by status")
+    public ResponseEntity<TaskPageDTO> getTasksByStatusPage(
+            @PathVariable TaskStatus status,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        log.info("GET /api/tasks/status/{}/page - Fetching task page by status", status);
+        TaskPageDTO page = taskService.getTasksByStatusPage(status, sort, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search tasks", description = "Filter tasks by any combination of project, assignee, statuses, priorities, due date range and last update")
+    public ResponseEntity<TaskPageDTO> searchTasks(
+            @ModelAttribute TaskSearchCriteria criteria,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        log.info("GET /api/tasks/search - Searching tasks");
+        TaskPageDTO page = taskService.searchTasks(criteria, sort, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/fulltext")
+    @Operation(summary = "Full-text search", description = "Ranked search over task titles and descriptions")
+    public ResponseEntity<List<TaskResponseDTO>> fullTextSearch(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit) {
+        log.info("GET /api/tasks/fulltext - Searching tasks for: {}", q);
+        List<TaskResponseDTO> tasks = taskService.fullTextSearch(q, limit);
+        return ResponseEntity.ok(tasks);
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export tasks", description = "Stream tasks as NDJSON or CSV, optionally only for one project")
+    public void exportTasks(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) Long projectId,
+            HttpServletResponse response) throws IOException {
+        log.info("GET /api/tasks/export - Exporting tasks as {}", format);
+        TaskExportService.Format exportFormat = TaskExportService.Format.fromParam(format);
+        taskExportService.checkProjectExists(projectId);
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"tasks." + exportFormat.getExtension() + "\"");
+        taskExportService.exportTasks(exportFormat, projectId, response.getOutputStream());
+    }
+
     @PostMapping
     @Operation(summary = "Create new task")
     public ResponseEntity<TaskResponseDTO> createTask(@Valid @RequestBody TaskCreateDTO createDTO) {
@@ -73,6 +173,23 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdTask);
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Create tasks in bulk", description = "Accepts a JSON array or an NDJSON stream, reports errors per item")
+    public ResponseEntity<TaskBulkResultDTO> createTasksBulk(HttpServletRequest request) throws IOException {
+        log.info("POST /api/tasks/bulk - Creating tasks in bulk");
+        boolean ndjson = MediaType.APPLICATION_NDJSON.isCompatibleWith(MediaType.parseMediaType(request.getContentType()));
+        TaskBulkResultDTO result = taskBulkService.importTasks(request.getInputStream(), ndjson);
+        return ResponseEntity.ok(result);
+    }
+
+    @PatchMapping("/bulk")
+    @Operation(summary = "Update tasks in bulk", description = "Apply one change set to tasks selected by ids or by a filter")
+    public ResponseEntity<TaskBulkUpdateResultDTO> updateTasksBulk(@Valid @RequestBody TaskBulkUpdateDTO updateDTO) {
+        log.info("PATCH /api/tasks/bulk - Updating tasks in bulk");
+        TaskBulkUpdateResultDTO result = taskBulkService.updateTasks(updateDTO);
+        return ResponseEntity.ok(result);
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update task", description = "Update an existing task's information")
     public ResponseEntity<TaskResponseDTO> updateTask(
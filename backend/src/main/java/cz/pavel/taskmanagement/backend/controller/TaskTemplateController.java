@@ -0,0 +1,57 @@
+package cz.pavel.taskmanagement.backend.controller;
+
+import cz.pavel.taskmanagement.backend.dto.template.TaskTemplateCreateDTO;
+import cz.pavel.taskmanagement.backend.dto.template.TaskTemplateResponseDTO;
+import cz.pavel.taskmanagement.backend.service.TaskTemplateService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/templates")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Task template controller", description = "Recurring task templates")
+public class TaskTemplateController {
+
+    private final TaskTemplateService taskTemplateService;
+
+    @GetMapping("/project/{projectId}")
+    @Operation(summary = "Get templates by project")
+    public ResponseEntity<List<TaskTemplateResponseDTO>> getTemplatesByProject(@PathVariable Long projectId) {
+        log.info("GET /api/templates/project/{} - Fetching templates by project", projectId);
+        List<TaskTemplateResponseDTO> templates = taskTemplateService.getTemplatesByProject(projectId);
+        return ResponseEntity.ok(templates);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get template by its id")
+    public ResponseEntity<TaskTemplateResponseDTO> getTemplateById(@PathVariable Long id) {
+        log.info("GET /api/templates/{} - Fetching template by id", id);
+        TaskTemplateResponseDTO template = taskTemplateService.getTemplateById(id);
+        return ResponseEntity.ok(template);
+    }
+
+    @PostMapping
+    @Operation(summary = "Create recurring task template", description = "Tasks are created shortly before each occurrence is due")
+    public ResponseEntity<TaskTemplateResponseDTO> createTemplate(@Valid @RequestBody TaskTemplateCreateDTO createDTO) {
+        log.info("POST /api/templates - Creating new template: {}", createDTO.getTitle());
+        TaskTemplateResponseDTO template = taskTemplateService.createTemplate(createDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).body(template);
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete template", description = "Stops creating tasks, already created tasks are kept")
+    public ResponseEntity<Void> deleteTemplate(@PathVariable Long id) {
+        log.info("DELETE /api/templates/{} - Deleting template", id);
+        taskTemplateService.deleteTemplate(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,8 +1,11 @@
 package cz.pavel.taskmanagement.backend.controller;
 
+import cz.pavel.taskmanagement.backend.dto.job.JobResponseDTO;
 import cz.pavel.taskmanagement.backend.dto.user.UserCreateDTO;
+import cz.pavel.taskmanagement.backend.dto.user.UserOffboardDTO;
 import cz.pavel.taskmanagement.backend.dto.user.UserResponseDTO;
 import cz.pavel.taskmanagement.backend.dto.user.UserUpdateDTO;
+import cz.pavel.taskmanagement.backend.service.UserOffboardingService;
 import cz.pavel.taskmanagement.backend.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -14,6 +17,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
 
 @RestController
@@ -24,6 +28,7 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final UserOffboardingService userOffboardingService;
 
     @GetMapping
     @Operation(summary = "Get all users", description = "Retrieve a list of all users in the system")
@@ -60,6 +65,19 @@ public class UserController {
         return ResponseEntity.ok(user);
     }
 
+    @PostMapping("/{id}/offboard")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Offboard user", description = "Hand the user's tasks and projects to a successor and remove the user in the background")
+    public ResponseEntity<JobResponseDTO> offboardUser(
+            @PathVariable Long id,
+            @Valid @RequestBody UserOffboardDTO offboardDTO) {
+        log.info("POST /api/users/{}/offboard - Offboarding user", id);
+        JobResponseDTO job = userOffboardingService.offboardUser(id, offboardDTO);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/jobs/" + job.getId()))
+                .body(job);
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Delete user", description = "Remove a user from the system")
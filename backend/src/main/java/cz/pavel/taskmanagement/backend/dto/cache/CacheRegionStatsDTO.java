@@ -0,0 +1,29 @@
+package cz.pavel.taskmanagement.backend.dto.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.stat.CacheRegionStatistics;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheRegionStatsDTO {
+
+    private String region;
+    private long hits;
+    private long misses;
+    private long puts;
+    private long entries;
+    private double hitRatio;
+
+    public CacheRegionStatsDTO(CacheRegionStatistics statistics) {
+        this.region = statistics.getRegionName();
+        this.hits = statistics.getHitCount();
+        this.misses = statistics.getMissCount();
+        this.puts = statistics.getPutCount();
+        this.entries = statistics.getElementCountInMemory();
+        long lookups = hits + misses;
+        this.hitRatio = lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
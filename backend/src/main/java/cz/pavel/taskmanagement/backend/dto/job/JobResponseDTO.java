@@ -0,0 +1,37 @@
+package cz.pavel.taskmanagement.backend.dto.job;
+
+import cz.pavel.taskmanagement.backend.job.Job;
+import cz.pavel.taskmanagement.backend.job.JobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobResponseDTO {
+
+    private String id;
+    private String type;
+    private Long targetId;
+    private JobStatus status;
+    private long total;
+    private long processed;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+
+    public JobResponseDTO(Job job) {
+        this.id = job.getId();
+        this.type = job.getType();
+        this.targetId = job.getTargetId();
+        this.status = job.getStatus();
+        this.total = job.getTotal();
+        this.processed = job.getProcessed().get();
+        this.error = job.getError();
+        this.createdAt = job.getCreatedAt();
+        this.finishedAt = job.getFinishedAt();
+    }
+}
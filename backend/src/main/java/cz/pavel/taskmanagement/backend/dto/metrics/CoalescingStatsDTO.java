@@ -0,0 +1,16 @@
+package cz.pavel.taskmanagement.backend.dto.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoalescingStatsDTO {
+
+    private boolean enabled;
+    private int inFlight;
+    private long executed;
+    private long coalesced;
+}
@@ -0,0 +1,21 @@
+package cz.pavel.taskmanagement.backend.dto.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConcurrencyLimitStatsDTO {
+
+    private boolean enabled;
+    private int limit;
+    private int inFlight;
+    private int minLimit;
+    private int maxLimit;
+    private double baselineLatencyMillis;
+    private double recentLatencyMillis;
+    private long admitted;
+    private long rejected;
+}
@@ -0,0 +1,20 @@
+package cz.pavel.taskmanagement.backend.dto.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VirtualThreadStatsDTO {
+
+    private boolean virtualThreads;
+    private boolean pinningMonitor;
+    private long thresholdMillis;
+    private long pinnedEvents;
+    private double longestPinnedMillis;
+    private Map<String, Long> pinnedSites;
+}
@@ -0,0 +1,21 @@
+package cz.pavel.taskmanagement.backend.dto.project;
+
+import cz.pavel.taskmanagement.backend.dto.task.TaskResponseDTO;
+import cz.pavel.taskmanagement.backend.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardColumnDTO {
+
+    private TaskStatus status;
+    private long total;
+    private List<TaskResponseDTO> items;
+    private String nextCursor;
+    private boolean hasMore;
+}
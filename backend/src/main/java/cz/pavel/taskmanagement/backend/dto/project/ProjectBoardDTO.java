@@ -0,0 +1,16 @@
+package cz.pavel.taskmanagement.backend.dto.project;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectBoardDTO {
+
+    private Long projectId;
+    private List<BoardColumnDTO> columns;
+}
@@ -29,4 +29,19 @@ public class ProjectResponseDTO {
         this.createdAt = project.getCreatedAt();
         this.updatedAt = project.getUpdatedAt();
     }
+
+    public ProjectResponseDTO(ProjectSummary summary) {
+        this.id = summary.id();
+        this.name = summary.name();
+        this.description = summary.description();
+        this.owner = new UserResponseDTO(
+                summary.ownerId(),
+                summary.ownerUsername(),
+                summary.ownerEmail(),
+                summary.ownerFirstName(),
+                summary.ownerLastName(),
+                summary.ownerRole());
+        this.createdAt = summary.createdAt();
+        this.updatedAt = summary.updatedAt();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package cz.pavel.taskmanagement.backend.dto.project;
+
+import cz.pavel.taskmanagement.backend.entity.Role;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only row for project list views, filled by a JPQL constructor expression.
+ */
+public record ProjectSummary(
+        Long id,
+        String name,
+        String description,
+        Long ownerId,
+        String ownerUsername,
+        String ownerEmail,
+        String ownerFirstName,
+        String ownerLastName,
+        Role ownerRole,
+        Integer taskCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
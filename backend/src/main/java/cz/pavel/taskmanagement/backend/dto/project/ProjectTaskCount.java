@@ -0,0 +1,7 @@
+package cz.pavel.taskmanagement.backend.dto.project;
+
+/**
+ * Number of tasks in one project, produced by a grouped count query.
+ */
+public record ProjectTaskCount(Long projectId, Long taskCount) {
+}
@@ -0,0 +1,14 @@
+package cz.pavel.taskmanagement.backend.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkErrorDTO {
+
+    private int index;
+    private String message;
+}
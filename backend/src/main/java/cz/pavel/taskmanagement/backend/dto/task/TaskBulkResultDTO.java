@@ -0,0 +1,19 @@
+package cz.pavel.taskmanagement.backend.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkResultDTO {
+
+    private int received;
+    private int created;
+    private int failed;
+    private List<TaskBulkErrorDTO> errors = new ArrayList<>();
+}
@@ -0,0 +1,21 @@
+package cz.pavel.taskmanagement.backend.dto.task;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkUpdateDTO {
+
+    private List<Long> ids;
+
+    private TaskSearchCriteria filter;
+
+    @NotNull(message = "Changes are required")
+    private TaskChangeSetDTO changes;
+}
@@ -0,0 +1,14 @@
+package cz.pavel.taskmanagement.backend.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkUpdateResultDTO {
+
+    private long affected;
+    private int statements;
+}
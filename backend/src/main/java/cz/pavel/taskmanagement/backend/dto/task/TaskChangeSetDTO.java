@@ -0,0 +1,32 @@
+package cz.pavel.taskmanagement.backend.dto.task;
+
+import cz.pavel.taskmanagement.backend.entity.Priority;
+import cz.pavel.taskmanagement.backend.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangeSetDTO {
+
+    private TaskStatus status;
+
+    private Priority priority;
+
+    private LocalDate dueDate;
+
+    private Long assigneeId;
+
+    private boolean unassign;
+
+    private Long projectId;
+
+    public boolean isEmpty() {
+        return status == null && priority == null && dueDate == null
+                && assigneeId == null && !unassign && projectId == null;
+    }
+}
@@ -23,8 +23,11 @@ public class TaskCreateDTO {
     @Size(max = 2000, message = "Description must not exceed 2000 characters")
     private String description;
 
+    // Defaulted when omitted, an explicit null is rejected here rather than by the database
+    @NotNull(message = "Status must not be null")
     private TaskStatus status = TaskStatus.TODO;
 
+    @NotNull(message = "Priority must not be null")
     private Priority priority = Priority.MEDIUM;
 
     private LocalDate dueDate;
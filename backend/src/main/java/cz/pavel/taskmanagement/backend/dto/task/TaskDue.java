@@ -0,0 +1,9 @@
+package cz.pavel.taskmanagement.backend.dto.task;
+
+import java.time.LocalDate;
+
+/**
+ * Id and due date of an open task, read when (re)scheduling due-date timers.
+ */
+public record TaskDue(Long id, LocalDate dueDate) {
+}
@@ -0,0 +1,17 @@
+package cz.pavel.taskmanagement.backend.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPageDTO {
+
+    private List<TaskResponseDTO> items;
+    private String nextCursor;
+    private boolean hasMore;
+}
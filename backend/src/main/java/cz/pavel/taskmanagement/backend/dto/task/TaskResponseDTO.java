@@ -41,4 +41,26 @@ public class TaskResponseDTO {
         this.createdAt = task.getCreatedAt();
         this.updatedAt = task.getUpdatedAt();
     }
+
+    public TaskResponseDTO(TaskSummary summary) {
+        this.id = summary.id();
+        this.title = summary.title();
+        this.description = summary.description();
+        this.status = summary.status();
+        this.priority = summary.priority();
+        this.dueDate = summary.dueDate();
+        this.projectId = summary.projectId();
+        this.projectName = summary.projectName();
+        this.assignee = summary.assigneeId() != null
+                ? new UserResponseDTO(
+                        summary.assigneeId(),
+                        summary.assigneeUsername(),
+                        summary.assigneeEmail(),
+                        summary.assigneeFirstName(),
+                        summary.assigneeLastName(),
+                        summary.assigneeRole())
+                : null;
+        this.createdAt = summary.createdAt();
+        this.updatedAt = summary.updatedAt();
+    }
 }
\ No newline at end of file
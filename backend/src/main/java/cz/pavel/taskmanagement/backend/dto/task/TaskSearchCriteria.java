@@ -0,0 +1,35 @@
+package cz.pavel.taskmanagement.backend.dto.task;
+
+import cz.pavel.taskmanagement.backend.entity.Priority;
+import cz.pavel.taskmanagement.backend.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchCriteria {
+
+    private Long projectId;
+
+    private Long assigneeId;
+
+    private Set<TaskStatus> status;
+
+    private Set<Priority> priority;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedSince;
+}
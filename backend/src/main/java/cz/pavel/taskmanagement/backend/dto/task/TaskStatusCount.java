@@ -0,0 +1,9 @@
+package cz.pavel.taskmanagement.backend.dto.task;
+
+import cz.pavel.taskmanagement.backend.entity.TaskStatus;
+
+/**
+ * Number of tasks with one status, produced by a grouped count query.
+ */
+public record TaskStatusCount(TaskStatus status, Long taskCount) {
+}
@@ -0,0 +1,32 @@
+package cz.pavel.taskmanagement.backend.dto.task;
+
+import cz.pavel.taskmanagement.backend.entity.Priority;
+import cz.pavel.taskmanagement.backend.entity.Role;
+import cz.pavel.taskmanagement.backend.entity.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only row for task list views, filled by JPQL constructor expressions
+ * so no managed {@code Task}, {@code Project} or {@code User} is hydrated.
+ */
+public record TaskSummary(
+        Long id,
+        String title,
+        String description,
+        TaskStatus status,
+        Priority priority,
+        LocalDate dueDate,
+        Long projectId,
+        String projectName,
+        Long assigneeId,
+        String assigneeUsername,
+        String assigneeEmail,
+        String assigneeFirstName,
+        String assigneeLastName,
+        Role assigneeRole,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
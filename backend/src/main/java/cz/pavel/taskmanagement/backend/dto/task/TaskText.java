@@ -0,0 +1,7 @@
+package cz.pavel.taskmanagement.backend.dto.task;
+
+/**
+ * Text columns of a task, read when (re)building the full-text index.
+ */
+public record TaskText(Long id, String title, String description) {
+}
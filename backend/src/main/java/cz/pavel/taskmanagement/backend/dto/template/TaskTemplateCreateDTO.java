@@ -0,0 +1,46 @@
+package cz.pavel.taskmanagement.backend.dto.template;
+
+import cz.pavel.taskmanagement.backend.entity.Priority;
+import cz.pavel.taskmanagement.backend.entity.Recurrence;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTemplateCreateDTO {
+
+    @NotBlank(message = "Task title is required")
+    @Size(max = 200, message = "Title must not exceed 200 characters")
+    private String title;
+
+    @Size(max = 2000, message = "Description must not exceed 2000 characters")
+    private String description;
+
+    private Priority priority = Priority.MEDIUM;
+
+    @NotNull(message = "Project ID is required")
+    private Long projectId;
+
+    private Long assigneeId;
+
+    @NotNull(message = "Recurrence is required")
+    private Recurrence recurrence;
+
+    @Min(value = 1, message = "Interval must be at least 1")
+    @Max(value = 366, message = "Interval must not exceed 366")
+    private int interval = 1;
+
+    @NotNull(message = "Start date is required")
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+}
@@ -0,0 +1,49 @@
+package cz.pavel.taskmanagement.backend.dto.template;
+
+import cz.pavel.taskmanagement.backend.entity.Priority;
+import cz.pavel.taskmanagement.backend.entity.Recurrence;
+import cz.pavel.taskmanagement.backend.entity.TaskTemplate;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTemplateResponseDTO {
+
+    private Long id;
+    private String title;
+    private String description;
+    private Priority priority;
+    private Long projectId;
+    private Long assigneeId;
+    private Recurrence recurrence;
+    private int interval;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private long occurrences;
+    private LocalDate nextOccurrence;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public TaskTemplateResponseDTO(TaskTemplate template) {
+        this.id = template.getId();
+        this.title = template.getTitle();
+        this.description = template.getDescription();
+        this.priority = template.getPriority();
+        this.projectId = template.getProject().getId();
+        this.assigneeId = template.getAssignee() != null ? template.getAssignee().getId() : null;
+        this.recurrence = template.getRecurrence();
+        this.interval = template.getInterval();
+        this.startDate = template.getStartDate();
+        this.endDate = template.getEndDate();
+        this.occurrences = template.getOccurrences();
+        this.nextOccurrence = template.getNextOccurrence();
+        this.createdAt = template.getCreatedAt();
+        this.updatedAt = template.getUpdatedAt();
+    }
+}
@@ -0,0 +1,9 @@
+package cz.pavel.taskmanagement.backend.dto.template;
+
+import java.time.LocalDate;
+
+/**
+ * Id and next occurrence of a task template, read when loading the recurring task generator.
+ */
+public record TemplateSchedule(Long id, LocalDate nextOccurrence) {
+}
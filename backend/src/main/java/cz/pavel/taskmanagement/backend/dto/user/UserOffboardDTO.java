@@ -0,0 +1,18 @@
+package cz.pavel.taskmanagement.backend.dto.user;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserOffboardDTO {
+
+    @NotNull(message = "Successor is required")
+    private Long successorId;
+
+    // Leave the user's tasks unassigned instead of handing them to the successor
+    private boolean unassignTasks;
+}
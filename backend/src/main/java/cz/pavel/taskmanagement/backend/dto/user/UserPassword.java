@@ -0,0 +1,7 @@
+package cz.pavel.taskmanagement.backend.dto.user;
+
+/**
+ * Id and stored password hash of a user, read by the password rehash job.
+ */
+public record UserPassword(Long id, String password) {
+}
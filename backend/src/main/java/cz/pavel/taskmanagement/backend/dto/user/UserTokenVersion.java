@@ -0,0 +1,8 @@
+package cz.pavel.taskmanagement.backend.dto.user;
+
+/**
+ * Current token version of a user, read into the revocation table at startup, on a miss and
+ * when polling for versions changed on other instances.
+ */
+public record UserTokenVersion(Long id, int tokenVersion) {
+}
@@ -4,18 +4,27 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "projects")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Project.CACHE_REGION)
+@Table(name = "projects", indexes = {
+        @Index(name = "idx_projects_owner", columnList = "owner_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Project {
 
+    public static final String CACHE_REGION = "projects";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -30,6 +39,18 @@ public class Project {
     @JoinColumn(name = "owner_id", nullable = false)
     private User owner;
 
+    // Denormalized number of tasks, maintained by TaskService when tasker.projects.denormalized-task-count is on.
+    // Only ever changed by bulk updates, saving a loaded project must not write back its stale copy.
+    // Read it with ProjectRepository.findTaskCount, a cached project is not refreshed when it changes
+    @ColumnDefault("0")
+    @Column(name = "task_count", nullable = false, updatable = false)
+    private int taskCount = 0;
+
+    // Set when deletion is requested, the row itself is removed once the deletion job has removed its tasks
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean deleted = false;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,42 @@
+package cz.pavel.taskmanagement.backend.entity;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+public enum Recurrence {
+    DAILY,
+    WEEKLY,
+    MONTHLY;
+
+    /**
+     * Date of the n-th occurrence (0 based). Always computed from the start date, so monthly
+     * rules starting on the 31st land on the last day of shorter months without drifting.
+     */
+    public LocalDate occurrence(LocalDate start, int interval, long n) {
+        long steps = n * interval;
+        return switch (this) {
+            case DAILY -> start.plusDays(steps);
+            case WEEKLY -> start.plusWeeks(steps);
+            case MONTHLY -> start.plusMonths(steps);
+        };
+    }
+
+    /**
+     * Index of the first occurrence on or after {@code date}.
+     */
+    public long firstOnOrAfter(LocalDate start, int interval, LocalDate date) {
+        if (!date.isAfter(start)) {
+            return 0;
+        }
+        long units = switch (this) {
+            case DAILY -> ChronoUnit.DAYS.between(start, date);
+            case WEEKLY -> ChronoUnit.WEEKS.between(start, date);
+            case MONTHLY -> ChronoUnit.MONTHS.between(start, date);
+        };
+        long n = Math.max(0, units / interval - 1);
+        while (occurrence(start, interval, n).isBefore(date)) {
+            n++;
+        }
+        return n;
+    }
+}
@@ -11,14 +11,31 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_project_status", columnList = "project_id, status"),
+        @Index(name = "idx_tasks_assignee_status", columnList = "assignee_id, status"),
+        @Index(name = "idx_tasks_due_date", columnList = "due_date")
+})
+@NamedEntityGraph(
+        name = Task.GRAPH_WITH_RELATIONS,
+        attributeNodes = {
+                @NamedAttributeNode("project"),
+                @NamedAttributeNode("assignee")
+        }
+)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
 
+    public static final String GRAPH_WITH_RELATIONS = "Task.withProjectAndAssignee";
+    public static final String ID_SEQUENCE = "tasks_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // Pooled sequence instead of IDENTITY so Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_id")
+    @SequenceGenerator(name = "task_id", sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -0,0 +1,85 @@
+package cz.pavel.taskmanagement.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Recurring task: every occurrence of the rule becomes a {@link Task} due on that date.
+ * {@code nextOccurrence} is the date of the next task to create, null once the rule has ended.
+ */
+@Entity
+@Table(name = "task_templates", indexes = {
+        @Index(name = "idx_task_templates_project", columnList = "project_id"),
+        @Index(name = "idx_task_templates_next", columnList = "next_occurrence")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTemplate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Priority priority = Priority.MEDIUM;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "assignee_id")
+    private User assignee;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Recurrence recurrence;
+
+    @Column(name = "recurrence_interval", nullable = false)
+    private int interval = 1;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    // Number of occurrences already turned into tasks
+    @Column(nullable = false)
+    private long occurrences = 0;
+
+    @Column(name = "next_occurrence")
+    private LocalDate nextOccurrence;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * Moves past the current occurrence, clearing {@code nextOccurrence} when the rule has ended.
+     */
+    public void advance() {
+        occurrences++;
+        LocalDate next = recurrence.occurrence(startDate, interval, occurrences);
+        nextOccurrence = endDate == null || !next.isAfter(endDate) ? next : null;
+    }
+}
@@ -0,0 +1,8 @@
+package cz.pavel.taskmanagement.backend.event;
+
+/**
+ * Published by {@code ProjectService} once a project has been marked deleted.
+ * The tasks and the project row are removed by the job after the marking commits.
+ */
+public record ProjectDeletionRequestedEvent(Long projectId, String jobId) {
+}
@@ -0,0 +1,35 @@
+package cz.pavel.taskmanagement.backend.event;
+
+import cz.pavel.taskmanagement.backend.entity.Task;
+import cz.pavel.taskmanagement.backend.entity.TaskStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Published by {@code TaskService} whenever a task is created, updated or deleted.
+ * Carries a snapshot of the fields in-memory indexes care about, so listeners
+ * never have to touch the (possibly detached) entity.
+ */
+public record TaskChangedEvent(
+        Long taskId,
+        ChangeType type,
+        String title,
+        String description,
+        LocalDate dueDate,
+        TaskStatus status
+) {
+
+    public enum ChangeType {
+        SAVED,
+        DELETED
+    }
+
+    public static TaskChangedEvent saved(Task task) {
+        return new TaskChangedEvent(task.getId(), ChangeType.SAVED, task.getTitle(), task.getDescription(),
+                task.getDueDate(), task.getStatus());
+    }
+
+    public static TaskChangedEvent deleted(Long taskId) {
+        return new TaskChangedEvent(taskId, ChangeType.DELETED, null, null, null, null);
+    }
+}
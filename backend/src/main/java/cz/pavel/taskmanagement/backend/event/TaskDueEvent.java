@@ -0,0 +1,14 @@
+package cz.pavel.taskmanagement.backend.event;
+
+import java.util.List;
+
+/**
+ * Published by {@code DueDateScheduler} once per tick for the tasks that became due soon or overdue in it.
+ */
+public record TaskDueEvent(Kind kind, List<Long> taskIds) {
+
+    public enum Kind {
+        DUE_SOON,
+        OVERDUE
+    }
+}
@@ -0,0 +1,10 @@
+package cz.pavel.taskmanagement.backend.event;
+
+import java.time.LocalDate;
+
+/**
+ * Published by {@code TaskTemplateService} when a template is created or deleted.
+ * {@code nextOccurrence} is null when the template no longer produces tasks.
+ */
+public record TaskTemplateChangedEvent(Long templateId, LocalDate nextOccurrence) {
+}
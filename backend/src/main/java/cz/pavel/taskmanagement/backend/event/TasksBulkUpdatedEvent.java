@@ -0,0 +1,10 @@
+package cz.pavel.taskmanagement.backend.event;
+
+import java.util.List;
+
+/**
+ * Published after a set-based update changed the status or due date of the given tasks.
+ * Such updates bypass the entities, so listeners reload whatever they need.
+ */
+public record TasksBulkUpdatedEvent(List<Long> taskIds) {
+}
@@ -0,0 +1,10 @@
+package cz.pavel.taskmanagement.backend.event;
+
+import java.util.List;
+
+/**
+ * Published after a set-based delete removed the given tasks, one event per chunk instead of a
+ * {@link TaskChangedEvent} per task.
+ */
+public record TasksDeletedEvent(List<Long> taskIds) {
+}
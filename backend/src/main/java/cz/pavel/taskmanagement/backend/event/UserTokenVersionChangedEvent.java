@@ -0,0 +1,13 @@
+package cz.pavel.taskmanagement.backend.event;
+
+/**
+ * Published by {@code UserService} and {@code UserOffboardingService} when a user's tokens
+ * must be re-checked: {@code tokenVersion} is the user's new version, or null once the user
+ * has been deleted and none of their tokens are valid any more.
+ */
+public record UserTokenVersionChangedEvent(Long userId, Integer tokenVersion) {
+
+    public static UserTokenVersionChangedEvent deleted(Long userId) {
+        return new UserTokenVersionChangedEvent(userId, null);
+    }
+}
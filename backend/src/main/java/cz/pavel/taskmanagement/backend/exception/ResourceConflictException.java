@@ -0,0 +1,8 @@
+package cz.pavel.taskmanagement.backend.exception;
+
+public class ResourceConflictException extends RuntimeException {
+
+    public ResourceConflictException(String message) {
+        super(message);
+    }
+}
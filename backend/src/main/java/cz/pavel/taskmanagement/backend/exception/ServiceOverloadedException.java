@@ -0,0 +1,19 @@
+package cz.pavel.taskmanagement.backend.exception;
+
+/**
+ * Thrown when a bounded resource is full and the request is rejected instead of queued.
+ * Answered with 503 and a {@code Retry-After} header by {@link OverloadExceptionHandler}.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
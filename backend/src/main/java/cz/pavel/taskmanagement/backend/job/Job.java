@@ -0,0 +1,55 @@
+package cz.pavel.taskmanagement.backend.job;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one background job. Updated by the worker thread and read by
+ * {@code GET /api/jobs/{id}}, so every mutable field is volatile or atomic.
+ */
+@Getter
+public class Job {
+
+    private final String id = UUID.randomUUID().toString();
+    private final String type;
+    private final Long targetId;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final AtomicLong processed = new AtomicLong();
+
+    private volatile JobStatus status = JobStatus.QUEUED;
+    private volatile long total;
+    private volatile String error;
+    private volatile LocalDateTime finishedAt;
+
+    public Job(String type, Long targetId) {
+        this.type = type;
+        this.targetId = targetId;
+    }
+
+    public void start(long total) {
+        this.total = total;
+        this.status = JobStatus.RUNNING;
+    }
+
+    public void progress(long count) {
+        processed.addAndGet(count);
+    }
+
+    public void complete() {
+        finishedAt = LocalDateTime.now();
+        status = JobStatus.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        finishedAt = LocalDateTime.now();
+        status = JobStatus.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == JobStatus.COMPLETED || status == JobStatus.FAILED;
+    }
+}
@@ -0,0 +1,77 @@
+package cz.pavel.taskmanagement.backend.job;
+
+import cz.pavel.taskmanagement.backend.threads.BackgroundThreads;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * In-memory registry of background jobs, run one at a time on a dedicated worker thread
+ * so long maintenance work never competes with itself for database locks.
+ * Finished jobs are kept for {@code tasker.jobs.retention-minutes} so clients can poll the outcome.
+ */
+@Component
+@Slf4j
+public class JobRegistry {
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService worker;
+
+    @Value("${tasker.jobs.retention-minutes:60}")
+    private long retentionMinutes;
+
+    public JobRegistry(BackgroundThreads backgroundThreads) {
+        this.worker = Executors.newSingleThreadExecutor(backgroundThreads.factory("background-jobs"));
+    }
+
+    public Job create(String type, Long targetId) {
+        evictFinished();
+        Job job = new Job(type, targetId);
+        jobs.put(job.getId(), job);
+        return job;
+    }
+
+    public void run(Job job, Consumer<Job> work) {
+        run(job, work, worker);
+    }
+
+    /**
+     * Runs a job on the caller's own executor, for long throttled work that must not hold up
+     * the shared worker. The job is still tracked and polled like any other.
+     */
+    public void run(Job job, Consumer<Job> work, Executor executor) {
+        executor.execute(() -> {
+            try {
+                work.accept(job);
+                job.complete();
+            } catch (RuntimeException e) {
+                log.error("Job {} ({} {}) failed", job.getId(), job.getType(), job.getTargetId(), e);
+                job.fail(e.getMessage());
+            }
+        });
+    }
+
+    public Optional<Job> find(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    private void evictFinished() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+    }
+}
@@ -0,0 +1,8 @@
+package cz.pavel.taskmanagement.backend.job;
+
+public enum JobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
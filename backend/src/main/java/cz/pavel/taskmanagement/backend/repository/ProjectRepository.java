@@ -1,15 +1,78 @@
 package cz.pavel.taskmanagement.backend.repository;
 
+import cz.pavel.taskmanagement.backend.dto.project.ProjectSummary;
 import cz.pavel.taskmanagement.backend.entity.Project;
 import cz.pavel.taskmanagement.backend.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
+    String SUMMARY_SELECT = "SELECT new cz.pavel.taskmanagement.backend.dto.project.ProjectSummary("
+            + "p.id, p.name, p.description, o.id, o.username, o.email, o.firstName, o.lastName, o.role, "
+            + "p.taskCount, p.createdAt, p.updatedAt) "
+            + "FROM Project p JOIN p.owner o ";
+
     List<Project> findByOwner(User owner);
     List<Project> findByNameContainingIgnoreCase(String name);
+
+    // Looked up by primary key so the second-level cache can answer. markDeleted is a bulk update,
+    // which evicts the cached projects, so the flag checked here is not stale
+    default Optional<Project> findActiveById(Long id) {
+        return findById(id).filter(project -> !project.isDeleted());
+    }
+
+    default boolean existsActiveById(Long id) {
+        return findActiveById(id).isPresent();
+    }
+
+    boolean existsByOwnerId(Long ownerId);
+
+    // Read-only projections for list views
+    @Query(SUMMARY_SELECT + "WHERE p.deleted = false ORDER BY p.id")
+    List<ProjectSummary> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE o.id = :ownerId AND p.deleted = false ORDER BY p.id")
+    List<ProjectSummary> findSummariesByOwnerId(Long ownerId);
+
+    // User offboarding
+    @Modifying
+    @Query("UPDATE Project p SET p.owner = :successor, p.updatedAt = :now WHERE p.owner.id = :ownerId")
+    int transferOwnership(Long ownerId, User successor, LocalDateTime now);
+
+    // Asynchronous deletion. Clears the persistence context so no loaded copy still reads as not deleted
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Project p SET p.deleted = true WHERE p.id = :id AND p.deleted = false")
+    int markDeleted(Long id);
+
+    @Query("SELECT p.id FROM Project p WHERE p.deleted = true ORDER BY p.id")
+    List<Long> findDeletedIds();
+
+    @Modifying
+    @Query("DELETE FROM Project p WHERE p.id = :id AND p.deleted = true")
+    int purgeDeleted(Long id);
+
+    // Denormalized task counter. A JPQL bulk update would evict every cached project, so this is a native
+    // update with an empty query space that evicts nothing; cached projects keep a stale count, see findTaskCount
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = ""))
+    @Query(value = "UPDATE projects SET task_count = task_count + :delta WHERE id = :projectId", nativeQuery = true)
+    int adjustTaskCount(Long projectId, int delta);
+
+    @Query("SELECT p.taskCount FROM Project p WHERE p.id = :id")
+    int findTaskCount(Long id);
+
+    @Modifying
+    @Query("UPDATE Project p SET p.taskCount = (SELECT COUNT(t) FROM Task t WHERE t.project = p)")
+    int recountTasks();
 }
@@ -0,0 +1,70 @@
+package cz.pavel.taskmanagement.backend.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last row returned by a keyset page, handed to clients as an opaque string.
+ */
+public record TaskCursor(TaskSort sort, int phase, String key, long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = String.join(SEPARATOR,
+                sort.name(),
+                Integer.toString(phase),
+                key != null ? key : "",
+                Long.toString(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String encoded, TaskSort expectedSort) {
+        TaskCursor cursor;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            cursor = new TaskCursor(
+                    TaskSort.valueOf(parts[0]),
+                    Integer.parseInt(parts[1]),
+                    parts[2].isEmpty() ? null : parts[2],
+                    Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+
+        if (cursor.sort() != expectedSort) {
+            throw new IllegalArgumentException("Cursor was issued for sort " + cursor.sort().getParam());
+        }
+        if (cursor.phase() < 0 || cursor.phase() >= expectedSort.getPhases() || !hasValidKey(cursor)) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return cursor;
+    }
+
+    // The seek predicate parses these keys, checked up front so a tampered cursor fails before any query is built
+    private static boolean hasValidKey(TaskCursor cursor) {
+        if (cursor.phase() != 0 || (cursor.sort() != TaskSort.DUE_DATE && cursor.sort() != TaskSort.UPDATED_AT)) {
+            return true;
+        }
+        if (cursor.key() == null) {
+            return false;
+        }
+        try {
+            if (cursor.sort() == TaskSort.DUE_DATE) {
+                LocalDate.parse(cursor.key());
+            } else {
+                LocalDateTime.parse(cursor.key());
+            }
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package cz.pavel.taskmanagement.backend.repository;
+
+/**
+ * Smallest and largest task id matching a selector, used to walk it in id windows.
+ */
+public record TaskIdRange(long minId, long maxId) {
+}
@@ -1,15 +1,34 @@
 package cz.pavel.taskmanagement.backend.repository;
 
+import cz.pavel.taskmanagement.backend.dto.project.ProjectTaskCount;
+import cz.pavel.taskmanagement.backend.dto.task.TaskDue;
+import cz.pavel.taskmanagement.backend.dto.task.TaskStatusCount;
+import cz.pavel.taskmanagement.backend.dto.task.TaskSummary;
+import cz.pavel.taskmanagement.backend.dto.task.TaskText;
 import cz.pavel.taskmanagement.backend.entity.*;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
+
+    String SUMMARY_SELECT = "SELECT new cz.pavel.taskmanagement.backend.dto.task.TaskSummary("
+            + "t.id, t.title, t.description, t.status, t.priority, t.dueDate, p.id, p.name, "
+            + "a.id, a.username, a.email, a.firstName, a.lastName, a.role, t.createdAt, t.updatedAt) "
+            + "FROM Task t JOIN t.project p LEFT JOIN t.assignee a WHERE p.deleted = false ";
 
     List<Task> findByProject(Project project);
     List<Task> findByAssignee(User assignee);
@@ -19,7 +38,105 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByAssigneeAndStatus(User assignee, TaskStatus status);
     List<Task> findByDueDateBefore(LocalDate date);
     long countByProject(Project project);
+    long countByProjectId(Long projectId);
+    long countByAssigneeId(Long assigneeId);
+    boolean existsByAssigneeId(Long assigneeId);
+
+    @Query("SELECT new cz.pavel.taskmanagement.backend.dto.project.ProjectTaskCount(t.project.id, COUNT(t)) "
+            + "FROM Task t WHERE t.project.id IN :projectIds GROUP BY t.project.id")
+    List<ProjectTaskCount> countByProjectIds(Collection<Long> projectIds);
+
+    @Query("SELECT new cz.pavel.taskmanagement.backend.dto.task.TaskStatusCount(t.status, COUNT(t)) "
+            + "FROM Task t WHERE t.project.id = :projectId GROUP BY t.status")
+    List<TaskStatusCount> countByProjectIdGroupByStatus(Long projectId);
+
+    @Query("SELECT t.project.id FROM Task t WHERE t.id = :id")
+    Optional<Long> findProjectIdById(Long id);
 
     @Query("SELECT t FROM Task t WHERE t.project.owner = :owner")
     List<Task> findAllTasksByProjectOwner(User owner);
+
+    // Fetch plan variants: project and assignee are loaded in the same SELECT, tasks of projects pending deletion are left out
+    @EntityGraph(Task.GRAPH_WITH_RELATIONS)
+    @Query("SELECT t FROM Task t WHERE t.project.deleted = false")
+    List<Task> findAllWithRelations();
+
+    @EntityGraph(Task.GRAPH_WITH_RELATIONS)
+    @Query("SELECT t FROM Task t WHERE t.id = :id AND t.project.deleted = false")
+    Optional<Task> findWithRelationsById(Long id);
+
+    @EntityGraph(Task.GRAPH_WITH_RELATIONS)
+    @Query("SELECT t FROM Task t WHERE t.project = :project AND t.project.deleted = false")
+    List<Task> findWithRelationsByProject(Project project);
+
+    @EntityGraph(Task.GRAPH_WITH_RELATIONS)
+    @Query("SELECT t FROM Task t WHERE t.assignee = :assignee AND t.project.deleted = false")
+    List<Task> findWithRelationsByAssignee(User assignee);
+
+    @EntityGraph(Task.GRAPH_WITH_RELATIONS)
+    @Query("SELECT t FROM Task t WHERE t.status = :status AND t.project.deleted = false")
+    List<Task> findWithRelationsByStatus(TaskStatus status);
+
+    // Read-only projections for list views, SUMMARY_SELECT already leaves out projects pending deletion
+    @Query(SUMMARY_SELECT + "ORDER BY t.id")
+    List<TaskSummary> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "AND p.id = :projectId ORDER BY t.id")
+    List<TaskSummary> findSummariesByProjectId(Long projectId);
+
+    @Query(SUMMARY_SELECT + "AND a.id = :assigneeId ORDER BY t.id")
+    List<TaskSummary> findSummariesByAssigneeId(Long assigneeId);
+
+    @Query(SUMMARY_SELECT + "AND t.status = :status ORDER BY t.id")
+    List<TaskSummary> findSummariesByStatus(TaskStatus status);
+
+    @Query(SUMMARY_SELECT + "AND t.id IN :ids")
+    List<TaskSummary> findSummariesByIdIn(Collection<Long> ids);
+
+    // Keyset batches of text columns for the full-text index rebuild
+    @Query("SELECT new cz.pavel.taskmanagement.backend.dto.task.TaskText(t.id, t.title, t.description) "
+            + "FROM Task t WHERE t.id > :afterId ORDER BY t.id")
+    List<TaskText> findTextAfter(Long afterId, Pageable pageable);
+
+    // Unordered id batches for offboarding, each batch is reassigned before the next one is read
+    @Query("SELECT t.id FROM Task t WHERE t.assignee.id = :assigneeId")
+    List<Long> findIdsByAssigneeId(Long assigneeId, Pageable pageable);
+
+    // Id-range chunks for deleting a project's tasks
+    @Query("SELECT t.id FROM Task t WHERE t.project.id = :projectId AND t.id > :afterId ORDER BY t.id")
+    List<Long> findIdsByProjectIdAfter(Long projectId, Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.project.id = :projectId AND t.id > :afterId AND t.id <= :upToId")
+    int deleteByProjectIdInRange(Long projectId, Long afterId, Long upToId);
+
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.project.id = :projectId")
+    int deleteAllByProjectId(Long projectId);
+
+    // Keyset batches of open tasks with a due date for the due-date scheduler
+    @Query("SELECT new cz.pavel.taskmanagement.backend.dto.task.TaskDue(t.id, t.dueDate) FROM Task t "
+            + "WHERE t.dueDate IS NOT NULL AND t.status <> cz.pavel.taskmanagement.backend.entity.TaskStatus.DONE "
+            + "AND t.id > :afterId ORDER BY t.id")
+    List<TaskDue> findDueAfter(Long afterId, Pageable pageable);
+
+    @Query("SELECT new cz.pavel.taskmanagement.backend.dto.task.TaskDue(t.id, t.dueDate) FROM Task t "
+            + "WHERE t.dueDate IS NOT NULL AND t.status <> cz.pavel.taskmanagement.backend.entity.TaskStatus.DONE "
+            + "AND t.id IN :ids")
+    List<TaskDue> findDueByIdIn(Collection<Long> ids);
+
+    // Cursor-backed streams for exports, must be consumed inside a transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SUMMARY_SELECT + "ORDER BY t.id")
+    Stream<TaskSummary> streamAllSummaries();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SUMMARY_SELECT + "AND p.id = :projectId ORDER BY t.id")
+    Stream<TaskSummary> streamSummariesByProjectId(Long projectId);
 }
@@ -0,0 +1,33 @@
+package cz.pavel.taskmanagement.backend.repository;
+
+import cz.pavel.taskmanagement.backend.dto.project.ProjectTaskCount;
+import cz.pavel.taskmanagement.backend.dto.task.TaskChangeSetDTO;
+import cz.pavel.taskmanagement.backend.dto.task.TaskSummary;
+import cz.pavel.taskmanagement.backend.entity.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Keyset page: returns up to {@code limit} tasks matching {@code filter} that come
+     * strictly after {@code after} in the given sort order. Never uses OFFSET, so the
+     * cost of a page does not depend on how deep the client has scrolled.
+     * Rows are read as {@link TaskSummary} projections.
+     */
+    List<TaskSummary> findSlice(Specification<Task> filter, TaskSort sort, TaskCursor after, int limit);
+
+    /**
+     * Applies {@code changes} to every task matching {@code selector} in a single UPDATE statement.
+     * Bypasses the persistence context, so {@code updatedAt} is set explicitly.
+     */
+    int updateMatching(Specification<Task> selector, TaskChangeSetDTO changes);
+
+    List<Long> findIdsMatching(Specification<Task> selector);
+
+    List<ProjectTaskCount> countMatchingByProject(Specification<Task> selector);
+
+    Optional<TaskIdRange> findIdRange(Specification<Task> selector);
+}
@@ -0,0 +1,213 @@
+package cz.pavel.taskmanagement.backend.repository;
+
+import cz.pavel.taskmanagement.backend.dto.project.ProjectTaskCount;
+import cz.pavel.taskmanagement.backend.dto.task.TaskChangeSetDTO;
+import cz.pavel.taskmanagement.backend.dto.task.TaskSummary;
+import cz.pavel.taskmanagement.backend.entity.Priority;
+import cz.pavel.taskmanagement.backend.entity.Project;
+import cz.pavel.taskmanagement.backend.entity.Task;
+import cz.pavel.taskmanagement.backend.entity.TaskStatus;
+import cz.pavel.taskmanagement.backend.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskSummary> findSlice(Specification<Task> filter, TaskSort sort, TaskCursor after, int limit) {
+        List<TaskSummary> result = new ArrayList<>(limit);
+        int startPhase = after != null ? after.phase() : 0;
+
+        for (int phase = startPhase; phase < sort.getPhases() && result.size() < limit; phase++) {
+            TaskCursor seek = after != null && after.phase() == phase ? after : null;
+            result.addAll(findPhase(filter, sort, phase, seek, limit - result.size()));
+        }
+
+        return result;
+    }
+
+    @Override
+    public int updateMatching(Specification<Task> selector, TaskChangeSetDTO changes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+        Root<Task> root = update.from(Task.class);
+
+        if (changes.getStatus() != null) {
+            update.set(root.<TaskStatus>get("status"), changes.getStatus());
+        }
+        if (changes.getPriority() != null) {
+            update.set(root.<Priority>get("priority"), changes.getPriority());
+        }
+        if (changes.getDueDate() != null) {
+            update.set(root.<LocalDate>get("dueDate"), changes.getDueDate());
+        }
+        if (changes.isUnassign()) {
+            update.set(root.<User>get("assignee"), cb.nullLiteral(User.class));
+        } else if (changes.getAssigneeId() != null) {
+            update.set(root.<User>get("assignee"), entityManager.getReference(User.class, changes.getAssigneeId()));
+        }
+        if (changes.getProjectId() != null) {
+            update.set(root.<Project>get("project"), entityManager.getReference(Project.class, changes.getProjectId()));
+        }
+        update.set(root.<LocalDateTime>get("updatedAt"), LocalDateTime.now());
+        update.where(selector.toPredicate(root, null, cb));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    public List<Long> findIdsMatching(Specification<Task> selector) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+
+        query.select(root.get("id"))
+                .where(selector.toPredicate(root, query, cb));
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<ProjectTaskCount> countMatchingByProject(Specification<Task> selector) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProjectTaskCount> query = cb.createQuery(ProjectTaskCount.class);
+        Root<Task> root = query.from(Task.class);
+        Path<Long> projectId = root.get("project").get("id");
+
+        query.select(cb.construct(ProjectTaskCount.class, projectId, cb.count(root)))
+                .where(selector.toPredicate(root, query, cb))
+                .groupBy(projectId);
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public Optional<TaskIdRange> findIdRange(Specification<Task> selector) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+        Path<Long> id = root.get("id");
+
+        query.multiselect(cb.min(id), cb.max(id))
+                .where(selector.toPredicate(root, query, cb));
+
+        Tuple tuple = entityManager.createQuery(query).getSingleResult();
+        Long min = tuple.get(0, Long.class);
+        Long max = tuple.get(1, Long.class);
+        return min == null ? Optional.empty() : Optional.of(new TaskIdRange(min, max));
+    }
+
+    private List<TaskSummary> findPhase(Specification<Task> filter, TaskSort sort, int phase, TaskCursor seek, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskSummary> query = cb.createQuery(TaskSummary.class);
+        Root<Task> root = query.from(Task.class);
+        Join<Task, Project> project = root.join("project");
+        Join<Task, User> assignee = root.join("assignee", JoinType.LEFT);
+
+        List<Predicate> predicates = new ArrayList<>();
+        // Tasks of projects pending deletion are gone for readers even before the purge removes them
+        predicates.add(cb.isFalse(project.get("deleted")));
+        if (filter != null) {
+            Predicate predicate = filter.toPredicate(root, query, cb);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        predicates.add(phasePredicate(sort, phase, root, cb));
+        if (seek != null) {
+            predicates.add(seekPredicate(sort, phase, seek, root, cb));
+        }
+
+        query.select(cb.construct(TaskSummary.class,
+                        root.get("id"), root.get("title"), root.get("description"), root.get("status"),
+                        root.get("priority"), root.get("dueDate"), project.get("id"), project.get("name"),
+                        assignee.get("id"), assignee.get("username"), assignee.get("email"),
+                        assignee.get("firstName"), assignee.get("lastName"), assignee.get("role"),
+                        root.get("createdAt"), root.get("updatedAt")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(order(sort, phase, root, cb));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private Predicate phasePredicate(TaskSort sort, int phase, Root<Task> root, CriteriaBuilder cb) {
+        return switch (sort) {
+            case ID -> cb.conjunction();
+            case DUE_DATE -> phase == 0 ? cb.isNotNull(root.get("dueDate")) : cb.isNull(root.get("dueDate"));
+            case PRIORITY -> cb.equal(root.get("priority"), TaskSort.PRIORITY_BUCKETS[phase]);
+            case UPDATED_AT -> phase == 0 ? cb.isNotNull(root.get("updatedAt")) : cb.isNull(root.get("updatedAt"));
+        };
+    }
+
+    private Predicate seekPredicate(TaskSort sort, int phase, TaskCursor seek, Root<Task> root, CriteriaBuilder cb) {
+        Path<Long> id = root.get("id");
+
+        if (sort == TaskSort.DUE_DATE && phase == 0) {
+            Path<LocalDate> dueDate = root.get("dueDate");
+            LocalDate key = parseKey(seek.key(), LocalDate::parse);
+            return cb.or(
+                    cb.greaterThan(dueDate, key),
+                    cb.and(cb.equal(dueDate, key), cb.greaterThan(id, seek.id())));
+        }
+
+        if (sort == TaskSort.UPDATED_AT) {
+            if (phase == 0) {
+                Path<LocalDateTime> updatedAt = root.get("updatedAt");
+                LocalDateTime key = parseKey(seek.key(), LocalDateTime::parse);
+                return cb.or(
+                        cb.lessThan(updatedAt, key),
+                        cb.and(cb.equal(updatedAt, key), cb.lessThan(id, seek.id())));
+            }
+            return cb.lessThan(id, seek.id());
+        }
+
+        return cb.greaterThan(id, seek.id());
+    }
+
+    private List<Order> order(TaskSort sort, int phase, Root<Task> root, CriteriaBuilder cb) {
+        if (sort == TaskSort.DUE_DATE && phase == 0) {
+            return List.of(cb.asc(root.get("dueDate")), cb.asc(root.get("id")));
+        }
+        if (sort == TaskSort.UPDATED_AT) {
+            return phase == 0
+                    ? List.of(cb.desc(root.get("updatedAt")), cb.desc(root.get("id")))
+                    : List.of(cb.desc(root.get("id")));
+        }
+        return List.of(cb.asc(root.get("id")));
+    }
+
+    private static <T> T parseKey(String key, Function<String, T> parser) {
+        if (key == null) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        try {
+            return parser.apply(key);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package cz.pavel.taskmanagement.backend.repository;
+
+import cz.pavel.taskmanagement.backend.dto.task.TaskSummary;
+import cz.pavel.taskmanagement.backend.entity.Priority;
+
+import java.util.Arrays;
+
+/**
+ * Sort orders supported by the keyset (cursor) task listing.
+ * <p>
+ * Every order is split into phases so each query is a plain range scan:
+ * nullable keys get a trailing "key is null" phase and priority is walked
+ * bucket by bucket (HIGH, MEDIUM, LOW) instead of sorting on the enum string.
+ */
+public enum TaskSort {
+
+    ID("id", 1),
+    DUE_DATE("dueDate", 2),
+    PRIORITY("priority", 3),
+    UPDATED_AT("updatedAt", 2);
+
+    static final Priority[] PRIORITY_BUCKETS = {Priority.HIGH, Priority.MEDIUM, Priority.LOW};
+
+    private final String param;
+    private final int phases;
+
+    TaskSort(String param, int phases) {
+        this.param = param;
+        this.phases = phases;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    public int getPhases() {
+        return phases;
+    }
+
+    public static TaskSort fromParam(String param) {
+        if (param == null || param.isBlank()) {
+            return ID;
+        }
+        return Arrays.stream(values())
+                .filter(sort -> sort.param.equalsIgnoreCase(param))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported sort: " + param));
+    }
+
+    public int phaseOf(TaskSummary task) {
+        return switch (this) {
+            case ID -> 0;
+            case DUE_DATE -> task.dueDate() != null ? 0 : 1;
+            case PRIORITY -> Arrays.asList(PRIORITY_BUCKETS).indexOf(task.priority());
+            case UPDATED_AT -> task.updatedAt() != null ? 0 : 1;
+        };
+    }
+
+    public String keyOf(TaskSummary task) {
+        return switch (this) {
+            case ID, PRIORITY -> null;
+            case DUE_DATE -> task.dueDate() != null ? task.dueDate().toString() : null;
+            case UPDATED_AT -> task.updatedAt() != null ? task.updatedAt().toString() : null;
+        };
+    }
+
+    public TaskCursor cursorOf(TaskSummary task) {
+        return new TaskCursor(this, phaseOf(task), keyOf(task), task.id());
+    }
+}
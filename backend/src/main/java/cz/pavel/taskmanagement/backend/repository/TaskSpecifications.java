@@ -0,0 +1,108 @@
+package cz.pavel.taskmanagement.backend.repository;
+
+import cz.pavel.taskmanagement.backend.dto.task.TaskSearchCriteria;
+import cz.pavel.taskmanagement.backend.entity.Priority;
+import cz.pavel.taskmanagement.backend.entity.Task;
+import cz.pavel.taskmanagement.backend.entity.TaskStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> all() {
+        return (root, query, cb) -> cb.conjunction();
+    }
+
+    public static Specification<Task> inProject(Long projectId) {
+        return (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
+    }
+
+    public static Specification<Task> assignedTo(Long assigneeId) {
+        return (root, query, cb) -> cb.equal(root.get("assignee").get("id"), assigneeId);
+    }
+
+    public static Specification<Task> hasStatus(TaskStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Task> statusNot(TaskStatus status) {
+        return (root, query, cb) -> cb.notEqual(root.get("status"), status);
+    }
+
+    public static Specification<Task> priorityBelow(Priority priority) {
+        List<Priority> lower = Arrays.stream(Priority.values())
+                .filter(candidate -> candidate.compareTo(priority) < 0)
+                .toList();
+        return lower.isEmpty() ? (root, query, cb) -> cb.disjunction() : priorityIn(lower);
+    }
+
+    public static Specification<Task> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    /**
+     * Id window {@code (afterId, upToId]}, used to split large set-based operations into chunks.
+     */
+    public static Specification<Task> idWindow(long afterId, long upToId) {
+        return (root, query, cb) -> cb.and(
+                cb.greaterThan(root.get("id"), afterId),
+                cb.lessThanOrEqualTo(root.get("id"), upToId));
+    }
+
+    public static Specification<Task> statusIn(Collection<TaskStatus> statuses) {
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<Task> priorityIn(Collection<Priority> priorities) {
+        return (root, query, cb) -> root.get("priority").in(priorities);
+    }
+
+    public static Specification<Task> dueOnOrAfter(LocalDate date) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDate"), date);
+    }
+
+    public static Specification<Task> dueOnOrBefore(LocalDate date) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("dueDate"), date);
+    }
+
+    public static Specification<Task> updatedSince(LocalDateTime since) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("updatedAt"), since);
+    }
+
+    /**
+     * Combines every filled criterion into one specification, so the whole search runs as a single query.
+     */
+    public static Specification<Task> matching(TaskSearchCriteria criteria) {
+        Specification<Task> spec = all();
+        if (criteria.getProjectId() != null) {
+            spec = spec.and(inProject(criteria.getProjectId()));
+        }
+        if (criteria.getAssigneeId() != null) {
+            spec = spec.and(assignedTo(criteria.getAssigneeId()));
+        }
+        if (criteria.getStatus() != null && !criteria.getStatus().isEmpty()) {
+            spec = spec.and(statusIn(criteria.getStatus()));
+        }
+        if (criteria.getPriority() != null && !criteria.getPriority().isEmpty()) {
+            spec = spec.and(priorityIn(criteria.getPriority()));
+        }
+        if (criteria.getDueFrom() != null) {
+            spec = spec.and(dueOnOrAfter(criteria.getDueFrom()));
+        }
+        if (criteria.getDueTo() != null) {
+            spec = spec.and(dueOnOrBefore(criteria.getDueTo()));
+        }
+        if (criteria.getUpdatedSince() != null) {
+            spec = spec.and(updatedSince(criteria.getUpdatedSince()));
+        }
+        return spec;
+    }
+}
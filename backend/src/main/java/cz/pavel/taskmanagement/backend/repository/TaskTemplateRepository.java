@@ -0,0 +1,62 @@
+package cz.pavel.taskmanagement.backend.repository;
+
+import cz.pavel.taskmanagement.backend.dto.template.TemplateSchedule;
+import cz.pavel.taskmanagement.backend.entity.TaskTemplate;
+import cz.pavel.taskmanagement.backend.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TaskTemplateRepository extends JpaRepository<TaskTemplate, Long> {
+
+    List<TaskTemplate> findByProjectIdOrderById(Long projectId);
+
+    boolean existsByAssigneeId(Long assigneeId);
+
+    // Templates due for materialization, with what the generated tasks need. Read-only, so advancing
+    // them in memory is never flushed: only claimOccurrences writes their schedule
+    @EntityGraph(attributePaths = {"project", "assignee"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<TaskTemplate> findByIdIn(Collection<Long> ids);
+
+    /**
+     * Moves the template's schedule forward only if it still is where this instance read it, so
+     * of several instances materializing the same occurrence only one creates the tasks.
+     *
+     * @return 1 if the occurrences were claimed, 0 if another instance or an edit got there first
+     */
+    @Modifying
+    @Query("UPDATE TaskTemplate t SET t.occurrences = :occurrences, t.nextOccurrence = :nextOccurrence, t.updatedAt = :now "
+            + "WHERE t.id = :id AND t.occurrences = :expectedOccurrences AND t.nextOccurrence = :expectedNext")
+    int claimOccurrences(Long id, long expectedOccurrences, LocalDate expectedNext,
+                         long occurrences, LocalDate nextOccurrence, LocalDateTime now);
+
+    @Query("SELECT new cz.pavel.taskmanagement.backend.dto.template.TemplateSchedule(t.id, t.nextOccurrence) "
+            + "FROM TaskTemplate t WHERE t.id IN :ids")
+    List<TemplateSchedule> findScheduleByIdIn(Collection<Long> ids);
+
+    // Keyset batches for loading the generator's heap
+    @Query("SELECT new cz.pavel.taskmanagement.backend.dto.template.TemplateSchedule(t.id, t.nextOccurrence) "
+            + "FROM TaskTemplate t WHERE t.nextOccurrence IS NOT NULL AND t.id > :afterId ORDER BY t.id")
+    List<TemplateSchedule> findScheduleAfter(Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM TaskTemplate t WHERE t.project.id = :projectId")
+    int deleteByProjectIdInBulk(Long projectId);
+
+    @Modifying
+    @Query("UPDATE TaskTemplate t SET t.assignee = :successor WHERE t.assignee.id = :assigneeId")
+    int reassign(Long assigneeId, User successor);
+}
@@ -1,9 +1,19 @@
 package cz.pavel.taskmanagement.backend.repository;
 
+import cz.pavel.taskmanagement.backend.dto.user.UserPassword;
+import cz.pavel.taskmanagement.backend.dto.user.UserTokenVersion;
 import cz.pavel.taskmanagement.backend.entity.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -18,4 +28,45 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     void deleteByEmail(String email);
 
+    @Query("SELECT new cz.pavel.taskmanagement.backend.dto.user.UserTokenVersion(u.id, u.tokenVersion) FROM User u")
+    List<UserTokenVersion> findTokenVersions();
+
+    @Query("SELECT new cz.pavel.taskmanagement.backend.dto.user.UserTokenVersion(u.id, u.tokenVersion) FROM User u "
+            + "WHERE u.id = :id")
+    Optional<UserTokenVersion> findTokenVersionById(Long id);
+
+    @Query("SELECT new cz.pavel.taskmanagement.backend.dto.user.UserTokenVersion(u.id, u.tokenVersion) FROM User u "
+            + "WHERE u.updatedAt >= :since")
+    List<UserTokenVersion> findTokenVersionsUpdatedSince(LocalDateTime since);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    @Query("SELECT new cz.pavel.taskmanagement.backend.dto.user.UserPassword(u.id, u.password) FROM User u "
+            + "WHERE u.id > :afterId ORDER BY u.id")
+    List<UserPassword> findPasswordsAfter(Long afterId, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdForUpdate(Long id);
+
+    /**
+     * Replaces the password hash only if it is still {@code oldHash}, so a rehash never
+     * overwrites a password changed in the meantime. The row is locked and changed through the
+     * entity, which updates this user's cache entry instead of evicting every cached user the
+     * way a bulk update would.
+     *
+     * @return 1 if the hash was replaced, 0 otherwise
+     */
+    @Transactional
+    default int replacePassword(Long id, String oldHash, String newHash) {
+        return findByIdForUpdate(id)
+                .filter(user -> oldHash.equals(user.getPassword()))
+                .map(user -> {
+                    user.setPassword(newHash);
+                    return 1;
+                })
+                .orElse(0);
+    }
+
 }
@@ -0,0 +1,66 @@
+package cz.pavel.taskmanagement.backend.schedule;
+
+import cz.pavel.taskmanagement.backend.dto.task.TaskChangeSetDTO;
+import cz.pavel.taskmanagement.backend.entity.Priority;
+import cz.pavel.taskmanagement.backend.entity.TaskStatus;
+import cz.pavel.taskmanagement.backend.event.TaskDueEvent;
+import cz.pavel.taskmanagement.backend.repository.TaskRepository;
+import cz.pavel.taskmanagement.backend.repository.TaskSpecifications;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Raises the priority of tasks reported by {@link DueDateScheduler}, one UPDATE per
+ * {@code tasker.due.escalation-batch-size} tasks. Tasks that are done or already have
+ * the target priority or a higher one are left alone, so escalation never lowers a priority.
+ * An empty priority property disables that escalation.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DueDateEscalator {
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${tasker.due.overdue-priority:HIGH}")
+    private Priority overduePriority;
+
+    @Value("${tasker.due.due-soon-priority:}")
+    private Priority dueSoonPriority;
+
+    @Value("${tasker.due.escalation-batch-size:1000}")
+    private int batchSize;
+
+    @EventListener
+    public void onTaskDue(TaskDueEvent event) {
+        Priority target = event.kind() == TaskDueEvent.Kind.OVERDUE ? overduePriority : dueSoonPriority;
+        if (target == null) {
+            return;
+        }
+
+        TaskChangeSetDTO changes = new TaskChangeSetDTO();
+        changes.setPriority(target);
+
+        List<Long> taskIds = event.taskIds();
+        int escalated = 0;
+        for (int from = 0; from < taskIds.size(); from += batchSize) {
+            List<Long> ids = taskIds.subList(from, Math.min(from + batchSize, taskIds.size()));
+            escalated += Objects.requireNonNull(transactionTemplate.execute(status -> taskRepository.updateMatching(
+                    TaskSpecifications.idIn(ids)
+                            .and(TaskSpecifications.statusNot(TaskStatus.DONE))
+                            .and(TaskSpecifications.priorityBelow(target)),
+                    changes)));
+        }
+
+        log.info("{} tasks {}, {} escalated to {}", taskIds.size(),
+                event.kind() == TaskDueEvent.Kind.OVERDUE ? "overdue" : "due soon", escalated, target);
+    }
+}
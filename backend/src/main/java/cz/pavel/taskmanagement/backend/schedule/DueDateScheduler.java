@@ -0,0 +1,273 @@
+package cz.pavel.taskmanagement.backend.schedule;
+
+import cz.pavel.taskmanagement.backend.dto.task.TaskDue;
+import cz.pavel.taskmanagement.backend.entity.TaskStatus;
+import cz.pavel.taskmanagement.backend.event.TaskChangedEvent;
+import cz.pavel.taskmanagement.backend.event.TaskDueEvent;
+import cz.pavel.taskmanagement.backend.event.TasksBulkUpdatedEvent;
+import cz.pavel.taskmanagement.backend.event.TasksDeletedEvent;
+import cz.pavel.taskmanagement.backend.repository.TaskRepository;
+import cz.pavel.taskmanagement.backend.threads.BackgroundThreads;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fires {@link TaskDueEvent}s when open tasks become due soon or overdue.
+ * <p>
+ * Timers live in a {@link TimingWheel} loaded in id batches at startup and kept current from
+ * {@link TaskChangedEvent}, {@link TasksBulkUpdatedEvent} and {@link TasksDeletedEvent}, so a tick only touches the timers
+ * expiring in it instead of querying the tasks table. A task is overdue once its due date has
+ * passed (start of the next day in the server zone) and due soon {@code tasker.due.due-soon-hours}
+ * before that. Tasks already overdue when loaded or saved are reported right away.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DueDateScheduler {
+
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${tasker.due.enabled:true}")
+    private boolean enabled;
+
+    @Value("${tasker.due.tick-millis:60000}")
+    private long tickMillis;
+
+    @Value("${tasker.due.due-soon-hours:24}")
+    private long dueSoonHours;
+
+    @Value("${tasker.due.load-batch-size:5000}")
+    private int loadBatchSize;
+
+    private final BackgroundThreads backgroundThreads;
+    private ScheduledExecutorService ticker;
+
+    private final Object lock = new Object();
+    // Overdue tick of every scheduled task. Each scheduling gets a new generation and a timer is
+    // stale once its task was rescheduled, completed or deleted, even if it comes back on the same tick
+    private final Map<Long, Scheduled> dueTicks = new HashMap<>();
+    private long generation;
+    private final Set<Long> touchedDuringLoad = new HashSet<>();
+    private TimingWheel<Timer> wheel;
+    private boolean loading;
+
+    private record Scheduled(long dueTick, long generation) {
+    }
+
+    private record Timer(long taskId, TaskDueEvent.Kind kind, long generation) {
+    }
+
+    private record Fired(List<Long> dueSoon, List<Long> overdue) {
+        Fired() {
+            this(new ArrayList<>(), new ArrayList<>());
+        }
+
+        boolean isEmpty() {
+            return dueSoon.isEmpty() && overdue.isEmpty();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(backgroundThreads.factory("due-date-ticker"));
+        synchronized (lock) {
+            wheel = new TimingWheel<>(currentTick());
+            loading = true;
+        }
+        ticker.execute(this::load);
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Fired fired = new Fired();
+        synchronized (lock) {
+            if (wheel == null) {
+                return;
+            }
+            if (loading) {
+                touchedDuringLoad.add(event.taskId());
+            }
+            if (event.type() == TaskChangedEvent.ChangeType.DELETED || event.status() == TaskStatus.DONE) {
+                dueTicks.remove(event.taskId());
+            } else {
+                schedule(event.taskId(), event.dueDate(), fired);
+            }
+        }
+        // Listeners may write to the database, keep that off the committing request thread
+        if (!fired.isEmpty()) {
+            ticker.execute(() -> publish(fired));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksBulkUpdated(TasksBulkUpdatedEvent event) {
+        synchronized (lock) {
+            if (wheel == null) {
+                return;
+            }
+        }
+        // Queued behind the initial load, so the reloaded due dates always win
+        ticker.execute(() -> reschedule(event.taskIds()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksDeleted(TasksDeletedEvent event) {
+        synchronized (lock) {
+            if (wheel == null) {
+                return;
+            }
+            if (loading) {
+                touchedDuringLoad.addAll(event.taskIds());
+            }
+            // Their pending timers are stale now and skipped when they expire
+            event.taskIds().forEach(dueTicks::remove);
+        }
+    }
+
+    public int size() {
+        synchronized (lock) {
+            return dueTicks.size();
+        }
+    }
+
+    private void load() {
+        long started = System.currentTimeMillis();
+        try {
+            long afterId = 0;
+            List<TaskDue> batch;
+            do {
+                batch = taskRepository.findDueAfter(afterId, PageRequest.of(0, loadBatchSize));
+                Fired fired = new Fired();
+                synchronized (lock) {
+                    for (TaskDue task : batch) {
+                        if (!touchedDuringLoad.contains(task.id())) {
+                            schedule(task.id(), task.dueDate(), fired);
+                        }
+                    }
+                }
+                publish(fired);
+                if (!batch.isEmpty()) {
+                    afterId = batch.getLast().id();
+                }
+            } while (batch.size() == loadBatchSize);
+        } catch (RuntimeException e) {
+            log.error("Loading due dates failed, only tasks changed from now on are scheduled", e);
+        } finally {
+            synchronized (lock) {
+                loading = false;
+                touchedDuringLoad.clear();
+            }
+        }
+        log.info("Due-date scheduler loaded {} tasks in {} ms", size(), System.currentTimeMillis() - started);
+    }
+
+    private void reschedule(List<Long> taskIds) {
+        try {
+            Fired fired = new Fired();
+            for (int from = 0; from < taskIds.size(); from += loadBatchSize) {
+                List<Long> ids = taskIds.subList(from, Math.min(from + loadBatchSize, taskIds.size()));
+                List<TaskDue> open = taskRepository.findDueByIdIn(ids);
+                synchronized (lock) {
+                    // Tasks that are done or lost their due date no longer need timers
+                    ids.forEach(dueTicks::remove);
+                    open.forEach(task -> schedule(task.id(), task.dueDate(), fired));
+                }
+            }
+            publish(fired);
+        } catch (RuntimeException e) {
+            log.error("Rescheduling {} bulk updated tasks failed", taskIds.size(), e);
+        }
+    }
+
+    private void tick() {
+        try {
+            Fired fired = new Fired();
+            synchronized (lock) {
+                wheel.advanceTo(currentTick(), timer -> {
+                    Scheduled current = dueTicks.get(timer.taskId());
+                    if (current != null && current.generation() == timer.generation()) {
+                        (timer.kind() == TaskDueEvent.Kind.OVERDUE ? fired.overdue() : fired.dueSoon()).add(timer.taskId());
+                    }
+                });
+            }
+            publish(fired);
+        } catch (RuntimeException e) {
+            // An exception would cancel the periodic task, keep ticking
+            log.error("Due-date tick failed", e);
+        }
+    }
+
+    // Caller holds the lock
+    private void schedule(Long taskId, LocalDate dueDate, Fired fired) {
+        if (dueDate == null) {
+            dueTicks.remove(taskId);
+            return;
+        }
+        long dueTick = tickOf(dueDate);
+        Scheduled previous = dueTicks.get(taskId);
+        if (previous != null && previous.dueTick() == dueTick) {
+            // Same due date, the pending timers (or the already fired ones) still apply
+            return;
+        }
+        long timerGeneration = ++generation;
+        dueTicks.put(taskId, new Scheduled(dueTick, timerGeneration));
+        if (!wheel.add(dueTick, new Timer(taskId, TaskDueEvent.Kind.OVERDUE, timerGeneration))) {
+            fired.overdue().add(taskId);
+            return;
+        }
+        long dueSoonTick = dueTick - TimeUnit.HOURS.toMillis(dueSoonHours) / tickMillis;
+        if (!wheel.add(dueSoonTick, new Timer(taskId, TaskDueEvent.Kind.DUE_SOON, timerGeneration))) {
+            fired.dueSoon().add(taskId);
+        }
+    }
+
+    private void publish(Fired fired) {
+        if (!fired.dueSoon().isEmpty()) {
+            eventPublisher.publishEvent(new TaskDueEvent(TaskDueEvent.Kind.DUE_SOON, fired.dueSoon()));
+        }
+        if (!fired.overdue().isEmpty()) {
+            eventPublisher.publishEvent(new TaskDueEvent(TaskDueEvent.Kind.OVERDUE, fired.overdue()));
+        }
+    }
+
+    private long tickOf(LocalDate dueDate) {
+        long overdueAt = dueDate.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return Math.ceilDiv(overdueAt, tickMillis);
+    }
+
+    private long currentTick() {
+        return System.currentTimeMillis() / tickMillis;
+    }
+}
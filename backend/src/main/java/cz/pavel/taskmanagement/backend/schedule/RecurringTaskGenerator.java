@@ -0,0 +1,288 @@
+package cz.pavel.taskmanagement.backend.schedule;
+
+import cz.pavel.taskmanagement.backend.dto.template.TemplateSchedule;
+import cz.pavel.taskmanagement.backend.entity.Task;
+import cz.pavel.taskmanagement.backend.entity.TaskTemplate;
+import cz.pavel.taskmanagement.backend.event.TaskChangedEvent;
+import cz.pavel.taskmanagement.backend.event.TaskTemplateChangedEvent;
+import cz.pavel.taskmanagement.backend.repository.ProjectRepository;
+import cz.pavel.taskmanagement.backend.repository.TaskRepository;
+import cz.pavel.taskmanagement.backend.repository.TaskTemplateRepository;
+import cz.pavel.taskmanagement.backend.threads.BackgroundThreads;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turns task template occurrences into tasks {@code tasker.recurring.lead-days} before they are due.
+ * <p>
+ * Keeps a min-heap of the next occurrence of every active template, loaded at startup and kept
+ * current from {@link TaskTemplateChangedEvent}. A tick only pops the templates whose occurrence
+ * entered the lead window and materializes them in batches of {@code tasker.recurring.batch-size},
+ * one short transaction each, so its cost depends on the templates that are due and not on how
+ * many templates exist. Heap entries are never removed in place: an entry whose occurrence no
+ * longer matches the template's current one is simply dropped when popped. Every instance runs
+ * its own generator; a conditional update on the template's schedule decides which one creates
+ * the tasks of an occurrence.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RecurringTaskGenerator {
+
+    // Bounds the catch-up after downtime, the rest follows on the next ticks
+    private static final int MAX_OCCURRENCES_PER_TEMPLATE = 100;
+
+    private final TaskTemplateRepository taskTemplateRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${tasker.recurring.enabled:true}")
+    private boolean enabled;
+
+    @Value("${tasker.recurring.tick-millis:60000}")
+    private long tickMillis;
+
+    @Value("${tasker.recurring.lead-days:7}")
+    private int leadDays;
+
+    @Value("${tasker.recurring.batch-size:500}")
+    private int batchSize;
+
+    @Value("${tasker.recurring.max-per-tick:5000}")
+    private int maxPerTick;
+
+    @Value("${tasker.projects.denormalized-task-count:false}")
+    private boolean denormalizedTaskCount;
+
+    private final BackgroundThreads backgroundThreads;
+    private ScheduledExecutorService ticker;
+
+    private record Entry(long templateId, LocalDate occurrence) {
+    }
+
+    private final Object lock = new Object();
+    private final PriorityQueue<Entry> heap = new PriorityQueue<>(
+            Comparator.comparing(Entry::occurrence).thenComparingLong(Entry::templateId));
+    private final Map<Long, LocalDate> scheduled = new HashMap<>();
+    private final Set<Long> touchedDuringLoad = new HashSet<>();
+    private boolean running;
+    private boolean loading;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(backgroundThreads.factory("recurring-tasks"));
+        synchronized (lock) {
+            running = true;
+            loading = true;
+        }
+        ticker.execute(this::load);
+        ticker.scheduleAtFixedRate(this::tick, 0, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTemplateChanged(TaskTemplateChangedEvent event) {
+        synchronized (lock) {
+            if (!running) {
+                return;
+            }
+            if (loading) {
+                touchedDuringLoad.add(event.templateId());
+            }
+            reschedule(event.templateId(), event.nextOccurrence());
+        }
+    }
+
+    public int size() {
+        synchronized (lock) {
+            return scheduled.size();
+        }
+    }
+
+    private void load() {
+        long started = System.currentTimeMillis();
+        try {
+            long afterId = 0;
+            List<TemplateSchedule> batch;
+            do {
+                batch = taskTemplateRepository.findScheduleAfter(afterId, PageRequest.of(0, batchSize * 10));
+                synchronized (lock) {
+                    for (TemplateSchedule template : batch) {
+                        if (!touchedDuringLoad.contains(template.id())) {
+                            reschedule(template.id(), template.nextOccurrence());
+                        }
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    afterId = batch.getLast().id();
+                }
+            } while (batch.size() == batchSize * 10);
+        } catch (RuntimeException e) {
+            log.error("Loading task templates failed, only templates changed from now on are scheduled", e);
+        } finally {
+            synchronized (lock) {
+                loading = false;
+                touchedDuringLoad.clear();
+            }
+        }
+        log.info("Recurring task generator loaded {} templates in {} ms", size(), System.currentTimeMillis() - started);
+    }
+
+    private void tick() {
+        try {
+            LocalDate horizon = LocalDate.now().plusDays(leadDays);
+            int processed = 0;
+            int created = 0;
+            while (processed < maxPerTick) {
+                List<Entry> due = pollDue(horizon, Math.min(batchSize, maxPerTick - processed));
+                if (due.isEmpty()) {
+                    break;
+                }
+                processed += due.size();
+                try {
+                    created += materialize(due, horizon);
+                } catch (RuntimeException e) {
+                    // Put the batch back so it is retried on the next tick, not again in this one
+                    log.warn("Materializing {} templates failed: {}", due.size(), e.getMessage());
+                    synchronized (lock) {
+                        heap.addAll(due);
+                    }
+                    break;
+                }
+            }
+            if (created > 0) {
+                log.info("Created {} recurring tasks from {} templates", created, processed);
+            }
+        } catch (RuntimeException e) {
+            // An exception would cancel the periodic task, keep ticking
+            log.error("Recurring task tick failed", e);
+        }
+    }
+
+    private List<Entry> pollDue(LocalDate horizon, int limit) {
+        List<Entry> due = new ArrayList<>(limit);
+        synchronized (lock) {
+            while (due.size() < limit && !heap.isEmpty() && !heap.peek().occurrence().isAfter(horizon)) {
+                Entry entry = heap.poll();
+                if (entry.occurrence().equals(scheduled.get(entry.templateId()))) {
+                    due.add(entry);
+                }
+            }
+        }
+        return due;
+    }
+
+    private int materialize(List<Entry> due, LocalDate horizon) {
+        Map<Long, LocalDate> next = new HashMap<>();
+        List<Task> tasks = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<TaskTemplate> templates = taskTemplateRepository.findByIdIn(due.stream().map(Entry::templateId).toList());
+            Map<Long, Integer> createdPerProject = new HashMap<>();
+            List<Long> claimedElsewhere = new ArrayList<>();
+            LocalDateTime now = LocalDateTime.now();
+
+            for (TaskTemplate template : templates) {
+                if (template.getProject().isDeleted()) {
+                    continue;
+                }
+                long expectedOccurrences = template.getOccurrences();
+                LocalDate expectedNext = template.getNextOccurrence();
+                List<Task> created = new ArrayList<>();
+                while (template.getNextOccurrence() != null && !template.getNextOccurrence().isAfter(horizon)
+                        && created.size() < MAX_OCCURRENCES_PER_TEMPLATE) {
+                    created.add(newTask(template));
+                    template.advance();
+                }
+                if (!created.isEmpty() && taskTemplateRepository.claimOccurrences(template.getId(), expectedOccurrences,
+                        expectedNext, template.getOccurrences(), template.getNextOccurrence(), now) == 0) {
+                    claimedElsewhere.add(template.getId());
+                    continue;
+                }
+                tasks.addAll(created);
+                createdPerProject.merge(template.getProject().getId(), created.size(), Integer::sum);
+                next.put(template.getId(), template.getNextOccurrence());
+            }
+
+            // Another instance materialized these (or they were edited), follow where their schedule is now
+            if (!claimedElsewhere.isEmpty()) {
+                log.debug("Templates {} were claimed by another instance", claimedElsewhere);
+                taskTemplateRepository.findScheduleByIdIn(claimedElsewhere)
+                        .forEach(template -> next.put(template.id(), template.nextOccurrence()));
+            }
+
+            taskRepository.saveAll(tasks);
+            taskRepository.flush();
+            if (denormalizedTaskCount) {
+                createdPerProject.forEach(projectRepository::adjustTaskCount);
+            }
+            tasks.forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.saved(task)));
+        });
+
+        synchronized (lock) {
+            for (Entry entry : due) {
+                // Templates deleted meanwhile (or whose project is being deleted) are dropped
+                if (Objects.equals(scheduled.get(entry.templateId()), entry.occurrence())) {
+                    reschedule(entry.templateId(), next.get(entry.templateId()));
+                }
+            }
+        }
+        return tasks.size();
+    }
+
+    private static Task newTask(TaskTemplate template) {
+        Task task = new Task();
+        task.setTitle(template.getTitle());
+        task.setDescription(template.getDescription());
+        task.setPriority(template.getPriority());
+        task.setDueDate(template.getNextOccurrence());
+        task.setProject(template.getProject());
+        task.setAssignee(template.getAssignee());
+        return task;
+    }
+
+    // Caller holds the lock
+    private void reschedule(Long templateId, LocalDate nextOccurrence) {
+        if (nextOccurrence == null) {
+            scheduled.remove(templateId);
+            return;
+        }
+        if (!nextOccurrence.equals(scheduled.put(templateId, nextOccurrence))) {
+            heap.add(new Entry(templateId, nextOccurrence));
+        }
+    }
+}
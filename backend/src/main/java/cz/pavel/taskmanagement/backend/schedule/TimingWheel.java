@@ -0,0 +1,113 @@
+package cz.pavel.taskmanagement.backend.schedule;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel (Varghese and Lauck) over absolute tick numbers.
+ * <p>
+ * Level {@code i} has 64 buckets of {@code 64^i} ticks each. A timer is placed on the lowest
+ * level whose span covers its delay and is moved down a level ("cascaded") whenever the level
+ * below completes a rotation, so adding is O(1) and advancing one tick costs O(timers that
+ * expire or cascade in that tick) no matter how many timers are pending. Timers further away
+ * than the top level are parked in an overflow list and re-added each time the top level advances.
+ * <p>
+ * Not thread-safe, callers synchronize.
+ */
+public final class TimingWheel<T> {
+
+    private static final int BITS = 6;
+    private static final int SIZE = 1 << BITS;
+    private static final int MASK = SIZE - 1;
+    private static final int LEVELS = 4;
+
+    private record Timer<T>(long deadline, T item) {
+    }
+
+    private final List<List<ArrayDeque<Timer<T>>>> levels = new ArrayList<>(LEVELS);
+    private final List<Timer<T>> overflow = new ArrayList<>();
+    private long now;
+    private int size;
+
+    public TimingWheel(long startTick) {
+        this.now = startTick;
+        for (int level = 0; level < LEVELS; level++) {
+            List<ArrayDeque<Timer<T>>> buckets = new ArrayList<>(SIZE);
+            for (int i = 0; i < SIZE; i++) {
+                buckets.add(new ArrayDeque<>());
+            }
+            levels.add(buckets);
+        }
+    }
+
+    public long currentTick() {
+        return now;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Schedules {@code item} to expire at {@code deadline}.
+     *
+     * @return false when the deadline is not in the future, the caller should handle the item right away
+     */
+    public boolean add(long deadline, T item) {
+        if (deadline <= now) {
+            return false;
+        }
+        place(new Timer<>(deadline, item));
+        size++;
+        return true;
+    }
+
+    /**
+     * Advances the wheel tick by tick up to {@code tick}, passing every expired item to {@code expired}.
+     */
+    public void advanceTo(long tick, Consumer<T> expired) {
+        while (now < tick) {
+            now++;
+            cascade(1);
+            ArrayDeque<Timer<T>> bucket = levels.getFirst().get((int) (now & MASK));
+            Timer<T> timer;
+            while ((timer = bucket.poll()) != null) {
+                size--;
+                expired.accept(timer.item());
+            }
+        }
+    }
+
+    private void cascade(int level) {
+        if (level == LEVELS) {
+            if (!overflow.isEmpty()) {
+                List<Timer<T>> parked = new ArrayList<>(overflow);
+                overflow.clear();
+                parked.forEach(this::place);
+            }
+            return;
+        }
+        if (((now >>> (BITS * (level - 1))) & MASK) != 0) {
+            return;
+        }
+        // The lower level just wrapped: cascade higher levels first so their timers can land here
+        cascade(level + 1);
+        ArrayDeque<Timer<T>> bucket = levels.get(level).get((int) ((now >>> (BITS * level)) & MASK));
+        List<Timer<T>> moved = new ArrayList<>(bucket);
+        bucket.clear();
+        moved.forEach(this::place);
+    }
+
+    private void place(Timer<T> timer) {
+        long delay = timer.deadline() - now;
+        for (int level = 0; level < LEVELS; level++) {
+            if (delay < 1L << (BITS * (level + 1))) {
+                levels.get(level).get((int) ((timer.deadline() >>> (BITS * level)) & MASK)).add(timer);
+                return;
+            }
+        }
+        overflow.add(timer);
+    }
+}
@@ -0,0 +1,334 @@
+package cz.pavel.taskmanagement.backend.search;
+
+import cz.pavel.taskmanagement.backend.dto.task.TaskText;
+import cz.pavel.taskmanagement.backend.event.TaskChangedEvent;
+import cz.pavel.taskmanagement.backend.event.TasksDeletedEvent;
+import cz.pavel.taskmanagement.backend.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over task titles and descriptions.
+ * <p>
+ * Postings keep term frequency and document length next to the task id, so ranking
+ * (BM25) only walks the posting lists of the query terms. The index follows
+ * {@link TaskChangedEvent}s and {@link TasksDeletedEvent}s after commit and is rebuilt
+ * from the database at startup in keyset batches that are tokenized in parallel; changes
+ * arriving during a rebuild are replayed onto the new index before it is swapped in.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskTextIndex {
+
+    private static final int TITLE_WEIGHT = 2;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final TaskRepository taskRepository;
+
+    @Value("${tasker.search.rebuild-batch-size:5000}")
+    private int rebuildBatchSize;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Queue<TaskChangedEvent> pendingChanges = new ConcurrentLinkedQueue<>();
+    private Segment segment = new Segment();
+    private boolean rebuilding;
+
+    public record Hit(long taskId, double score) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        CompletableFuture.runAsync(this::rebuild)
+                .exceptionally(e -> {
+                    log.error("Full-text index rebuild failed", e);
+                    return null;
+                });
+    }
+
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            pendingChanges.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Segment fresh = new Segment();
+        boolean completed = false;
+        try {
+            long afterId = 0;
+            List<TaskText> batch;
+            do {
+                batch = taskRepository.findTextAfter(afterId, PageRequest.of(0, rebuildBatchSize));
+                List<AnalyzedDoc> analyzed = batch.parallelStream()
+                        .map(row -> analyze(row.id(), row.title(), row.description()))
+                        .toList();
+                analyzed.forEach(fresh::put);
+                if (!batch.isEmpty()) {
+                    afterId = batch.getLast().id();
+                }
+            } while (batch.size() == rebuildBatchSize);
+            completed = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (completed) {
+                    TaskChangedEvent change;
+                    while ((change = pendingChanges.poll()) != null) {
+                        apply(fresh, change);
+                    }
+                    segment = fresh;
+                }
+                rebuilding = false;
+                pendingChanges.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        log.info("Full-text index rebuilt with {} tasks in {} ms", fresh.docs.size(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(segment, event);
+            if (rebuilding) {
+                pendingChanges.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksDeleted(TasksDeletedEvent event) {
+        lock.writeLock().lock();
+        try {
+            for (Long taskId : event.taskIds()) {
+                TaskChangedEvent change = TaskChangedEvent.deleted(taskId);
+                apply(segment, change);
+                if (rebuilding) {
+                    pendingChanges.add(change);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Hit> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(TextAnalyzer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int docCount = segment.docs.size();
+            if (docCount == 0) {
+                return List.of();
+            }
+            double avgLength = (double) segment.totalLength / docCount;
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                PostingList postings = segment.postings.get(term);
+                if (postings == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (docCount - postings.size + 0.5) / (postings.size + 0.5));
+                for (int i = 0; i < postings.size; i++) {
+                    double tf = postings.tfs[i];
+                    double norm = K1 * (1 - B + B * postings.lengths[i] / avgLength);
+                    scores.merge(postings.ids[i], idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                }
+            }
+
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, (a, b) -> Double.compare(a.score(), b.score()));
+            scores.forEach((id, score) -> {
+                top.add(new Hit(id, score));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            });
+
+            List<Hit> result = new ArrayList<>(top);
+            result.sort((a, b) -> Double.compare(b.score(), a.score()));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segment.docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void apply(Segment target, TaskChangedEvent event) {
+        if (event.type() == TaskChangedEvent.ChangeType.DELETED) {
+            target.remove(event.taskId());
+        } else {
+            target.put(analyze(event.taskId(), event.title(), event.description()));
+        }
+    }
+
+    private static AnalyzedDoc analyze(long id, String title, String description) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = 0;
+        for (String term : TextAnalyzer.tokenize(title)) {
+            frequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+            length += TITLE_WEIGHT;
+        }
+        for (String term : TextAnalyzer.tokenize(description)) {
+            frequencies.merge(term, 1, Integer::sum);
+            length++;
+        }
+        return new AnalyzedDoc(id, frequencies, length);
+    }
+
+    private record AnalyzedDoc(long id, Map<String, Integer> frequencies, int length) {
+    }
+
+    private record DocEntry(String[] terms, int length) {
+    }
+
+    /**
+     * One generation of the index. Not thread-safe on its own, guarded by the index lock.
+     */
+    private static final class Segment {
+
+        private final Map<String, PostingList> postings = new HashMap<>();
+        private final Map<Long, DocEntry> docs = new HashMap<>();
+        private long totalLength;
+
+        void put(AnalyzedDoc doc) {
+            remove(doc.id());
+
+            String[] terms = new String[doc.frequencies().size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : doc.frequencies().entrySet()) {
+                PostingList list = postings.computeIfAbsent(entry.getKey(), term -> new PostingList());
+                list.add(doc.id(), entry.getValue(), doc.length());
+                terms[i++] = entry.getKey();
+            }
+
+            docs.put(doc.id(), new DocEntry(terms, doc.length()));
+            totalLength += doc.length();
+        }
+
+        void remove(long id) {
+            DocEntry entry = docs.remove(id);
+            if (entry == null) {
+                return;
+            }
+            for (String term : entry.terms()) {
+                PostingList list = postings.get(term);
+                if (list != null && list.remove(id) && list.size == 0) {
+                    postings.remove(term);
+                }
+            }
+            totalLength -= entry.length();
+        }
+    }
+
+    /**
+     * Unordered, primitive-array posting list. Removal swaps the last entry into the gap. Lists
+     * past {@link #SLOT_INDEX_THRESHOLD} entries also map ids to slots, so removing a task from
+     * a common term is a lookup instead of a scan under the write lock.
+     */
+    private static final class PostingList {
+
+        private static final int SLOT_INDEX_THRESHOLD = 64;
+
+        private long[] ids = new long[4];
+        private int[] tfs = new int[4];
+        private int[] lengths = new int[4];
+        private int size;
+        private Map<Long, Integer> slots;
+
+        void add(long id, int tf, int length) {
+            if (size == ids.length) {
+                int capacity = size + (size >> 1) + 1;
+                ids = Arrays.copyOf(ids, capacity);
+                tfs = Arrays.copyOf(tfs, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+            }
+            ids[size] = id;
+            tfs[size] = tf;
+            lengths[size] = length;
+            if (slots != null) {
+                slots.put(id, size);
+            } else if (size + 1 > SLOT_INDEX_THRESHOLD) {
+                slots = new HashMap<>(2 * SLOT_INDEX_THRESHOLD);
+                for (int i = 0; i <= size; i++) {
+                    slots.put(ids[i], i);
+                }
+            }
+            size++;
+        }
+
+        boolean remove(long id) {
+            int slot = slotOf(id);
+            if (slot < 0) {
+                return false;
+            }
+            size--;
+            if (slot != size) {
+                ids[slot] = ids[size];
+                tfs[slot] = tfs[size];
+                lengths[slot] = lengths[size];
+                if (slots != null) {
+                    slots.put(ids[slot], slot);
+                }
+            }
+            if (slots != null) {
+                slots.remove(id);
+            }
+            return true;
+        }
+
+        private int slotOf(long id) {
+            if (slots != null) {
+                Integer slot = slots.get(id);
+                return slot != null ? slot : -1;
+            }
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package cz.pavel.taskmanagement.backend.security;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrency limit that follows latency, in the style of a gradient limiter. Latency of
+ * finished requests is averaged over short windows and compared with a slowly moving baseline.
+ * While the window average stays within {@code tolerance} times the baseline the limit grows by
+ * roughly its square root per window; once requests get slower than that, the limit shrinks in
+ * proportion, down to {@code minLimit}. The limit only grows when it was actually used, so a
+ * quiet period does not leave it inflated for the next spike.
+ * <p>
+ * Admission is a compare-and-set on the in-flight counter. Priority requests may go
+ * {@code priorityHeadroom} above the limit, so health checks and token refreshes still get
+ * through while ordinary requests are being shed.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BASELINE_SMOOTHING = 0.01;
+    private static final double LIMIT_SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int priorityHeadroom;
+    private final double tolerance;
+    private final long windowNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    private final LongAdder windowLatencyNanos = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+    private final AtomicLong windowEnd;
+    private final AtomicBoolean updating = new AtomicBoolean();
+
+    // Written only by the thread closing a window
+    private volatile double baselineNanos;
+    private volatile double lastAverageNanos;
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, int priorityHeadroom,
+                                      double tolerance, long windowNanos, long nowNanos) {
+        if (minLimit < 1 || maxLimit < minLimit || tolerance < 1 || windowNanos <= 0) {
+            throw new IllegalArgumentException("Concurrency limit needs 1 <= min <= max, tolerance >= 1 and a positive window");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.priorityHeadroom = Math.max(0, priorityHeadroom);
+        this.tolerance = tolerance;
+        this.windowNanos = windowNanos;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+        this.windowEnd = new AtomicLong(nowNanos + windowNanos);
+    }
+
+    /**
+     * Reserves a slot. Every successful call must be paired with {@link #release}.
+     *
+     * @return false if the request should be shed
+     */
+    public boolean tryAcquire(boolean priority) {
+        int allowed = priority ? limit + priorityHeadroom : limit;
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                windowMaxInFlight.accumulateAndGet(current + 1, Math::max);
+                admitted.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Frees the slot and records how long the request took; the thread that finds the
+     * window over recomputes the limit.
+     */
+    public void release(long latencyNanos, long nowNanos) {
+        inFlight.decrementAndGet();
+        windowLatencyNanos.add(latencyNanos);
+        windowSamples.increment();
+
+        long end = windowEnd.get();
+        if (nowNanos - end >= 0 && updating.compareAndSet(false, true)) {
+            try {
+                if (windowEnd.compareAndSet(end, nowNanos + windowNanos)) {
+                    closeWindow();
+                }
+            } finally {
+                updating.set(false);
+            }
+        }
+    }
+
+    /**
+     * Frees the slot without recording a latency, for requests whose duration does not
+     * reflect the load on the shared resources.
+     */
+    public void releaseUnsampled() {
+        inFlight.decrementAndGet();
+    }
+
+    private void closeWindow() {
+        long samples = windowSamples.sumThenReset();
+        long latency = windowLatencyNanos.sumThenReset();
+        int maxInFlight = windowMaxInFlight.getAndSet(inFlight.get());
+        if (samples == 0) {
+            return;
+        }
+
+        double average = (double) latency / samples;
+        double baseline = baselineNanos == 0 ? average : baselineNanos;
+        // After a long overload the baseline has drifted up; let it fall back once latency recovers
+        if (baseline > average * 2) {
+            baseline = baseline * 0.95;
+        }
+        baseline = baseline * (1 - BASELINE_SMOOTHING) + average * BASELINE_SMOOTHING;
+        baselineNanos = baseline;
+        lastAverageNanos = average;
+
+        int current = limit;
+        double gradient = Math.clamp(tolerance * baseline / average, 0.5, 1.0);
+        if (gradient >= 1.0 && maxInFlight < current / 2) {
+            return;
+        }
+        double target = current * gradient + Math.sqrt(current);
+        double next = current * (1 - LIMIT_SMOOTHING) + target * LIMIT_SMOOTHING;
+        limit = Math.clamp(Math.round(next), minLimit, maxLimit);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public double getBaselineLatencyNanos() {
+        return baselineNanos;
+    }
+
+    public double getLastLatencyNanos() {
+        return lastAverageNanos;
+    }
+
+    public long getAdmitted() {
+        return admitted.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,134 @@
+package cz.pavel.taskmanagement.backend.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cz.pavel.taskmanagement.backend.dto.metrics.ConcurrencyLimitStatsDTO;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load shedding for the API. Runs before token verification and admits a request only while
+ * the number of requests in progress is below the {@link AdaptiveConcurrencyLimiter adaptive limit};
+ * the rest get an immediate 503 instead of piling up on Tomcat threads behind a slow database.
+ * Health checks and token refreshes are admitted with extra headroom, so the instance stays
+ * visible to the load balancer and clients do not get logged out during an overload.
+ * Streaming and password hashing requests hold a slot but are left out of the latency samples.
+ */
+@Component
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitFilter(
+            ObjectMapper objectMapper,
+            @Value("${tasker.concurrency-limit.enabled:true}") boolean enabled,
+            @Value("${tasker.concurrency-limit.initial:50}") int initialLimit,
+            @Value("${tasker.concurrency-limit.min:10}") int minLimit,
+            @Value("${tasker.concurrency-limit.max:200}") int maxLimit,
+            @Value("${tasker.concurrency-limit.priority-headroom:10}") int priorityHeadroom,
+            @Value("${tasker.concurrency-limit.tolerance:2.0}") double tolerance,
+            @Value("${tasker.concurrency-limit.window-millis:250}") long windowMillis) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, priorityHeadroom,
+                tolerance, TimeUnit.MILLISECONDS.toNanos(windowMillis), System.nanoTime());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        if (!limiter.tryAcquire(isPriority(request))) {
+            reject(request, response);
+            return;
+        }
+
+        boolean sampled = isSampled(request);
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (sampled) {
+                long end = System.nanoTime();
+                limiter.release(end - start, end);
+            } else {
+                limiter.releaseUnsampled();
+            }
+        }
+    }
+
+    public ConcurrencyLimitStatsDTO getStats() {
+        return new ConcurrencyLimitStatsDTO(
+                enabled,
+                limiter.getLimit(),
+                limiter.getInFlight(),
+                limiter.getMinLimit(),
+                limiter.getMaxLimit(),
+                limiter.getBaselineLatencyNanos() / 1_000_000.0,
+                limiter.getLastLatencyNanos() / 1_000_000.0,
+                limiter.getAdmitted(),
+                limiter.getRejected()
+        );
+    }
+
+    private static boolean isPriority(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return path.startsWith("/api/health") || path.equals("/api/auth/refresh");
+    }
+
+    // Streams run as long as the client takes and hashing waits for its own bounded pool, so their
+    // latency says nothing about the database and would drag the baseline up until the limit collapses
+    private static boolean isSampled(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        String method = request.getMethod();
+        if (path.equals("/api/tasks/export") || path.equals("/api/auth/login")) {
+            return false;
+        }
+        if ("POST".equals(method) && (path.equals("/api/tasks/bulk") || path.equals("/api/users"))) {
+            return false;
+        }
+        return !("PUT".equals(method) && path.startsWith("/api/users/"));
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.debug("Shedding {} {} - concurrency limit {} reached", request.getMethod(), request.getRequestURI(), limiter.getLimit());
+
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(RETRY_AFTER_SECONDS));
+        response.setContentType("application/json");
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now().toString());
+        errorResponse.put("status", HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        errorResponse.put("error", "Service Unavailable");
+        errorResponse.put("message", "Server is overloaded, please retry later");
+        errorResponse.put("path", request.getRequestURI());
+
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
@@ -1,5 +1,6 @@
 package cz.pavel.taskmanagement.backend.security;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,6 +23,7 @@ import java.util.Collections;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
@@ -46,16 +48,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = authHeader.substring(7);
 
         try {
-            if (!jwtUtil.validateToken(token)) {
+            JwtClaims claims;
+            try {
+                claims = jwtUtil.verify(token);
+            } catch (JwtException | IllegalArgumentException e) {
                 response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid or expired token");
                 return;
             }
 
-            String username = jwtUtil.getUsernameFromToken(token);
-            Long userId = jwtUtil.getUserIdFromToken(token);
-            String role = jwtUtil.getRoleFromToken(token);
+            if (!tokenRevocationService.isCurrent(claims.userId(), claims.tokenVersion())) {
+                response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Token has been revoked");
+                return;
+            }
 
-            UsernamePasswordAuthenticationToken authentication = getUsernamePasswordAuthenticationToken(role, username);
+            UsernamePasswordAuthenticationToken authentication = getUsernamePasswordAuthenticationToken(claims.role(), claims.username());
 
             authentication.setDetails(
                     new WebAuthenticationDetailsSource().buildDetails(request)
@@ -0,0 +1,36 @@
+package cz.pavel.taskmanagement.backend.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * Claims of a token whose signature and expiry have been checked. Immutable, so one
+ * instance can be shared by every request that presents the same token.
+ */
+public record JwtClaims(
+        String tokenId,
+        String username,
+        Long userId,
+        String role,
+        String tokenType,
+        int tokenVersion,
+        Instant expiresAt
+) {
+
+    static JwtClaims from(Claims claims) {
+        Integer tokenVersion = claims.get("tokenVersion", Integer.class);
+        return new JwtClaims(
+                claims.getId(),
+                claims.getSubject(),
+                claims.get("userId", Long.class),
+                claims.get("role", String.class),
+                claims.get("tokenType", String.class),
+                tokenVersion != null ? tokenVersion : 0,
+                claims.getExpiration().toInstant());
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
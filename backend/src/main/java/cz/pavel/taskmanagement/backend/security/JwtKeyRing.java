@@ -0,0 +1,255 @@
+package cz.pavel.taskmanagement.backend.security;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * HMAC keys that sign and verify JWTs, shared by every backend instance through one key file.
+ * <p>
+ * Each line of the file is {@code <kid> <not-before> <base64 secret>}. The newest key whose
+ * not-before has passed signs new tokens, older ones only verify until their successor has been
+ * active for {@code key-retire-after}. Instances re-read the file periodically, so a key appended
+ * with a future not-before starts signing everywhere at the same moment. Once the active key is
+ * older than {@code rotation-interval}, the first instance to notice appends its successor while
+ * holding a lock on the file.
+ * <p>
+ * Without a configured file a random key is used, and tokens do not survive a restart.
+ */
+@Component
+@Slf4j
+public class JwtKeyRing {
+
+    public record SigningKey(String id, Instant notBefore, SecretKey secret) {
+    }
+
+    private final Path keysFile;
+    private final Duration retireAfter;
+    private final Duration rotationInterval;
+    private final Duration reloadInterval;
+
+    private volatile List<SigningKey> keys = List.of();
+    private ScheduledExecutorService reloader;
+
+    public JwtKeyRing(
+            @Value("${tasker.jwt.keys-file:}") String keysFile,
+            @Value("${tasker.jwt.key-retire-after:P8D}") Duration retireAfter,
+            @Value("${tasker.jwt.rotation-interval:P30D}") Duration rotationInterval,
+            @Value("${tasker.jwt.keys-reload-seconds:60}") long reloadSeconds) {
+        this.keysFile = keysFile == null || keysFile.isBlank() ? null : Path.of(keysFile);
+        this.retireAfter = retireAfter;
+        this.rotationInterval = rotationInterval;
+        this.reloadInterval = Duration.ofSeconds(reloadSeconds);
+    }
+
+    /**
+     * Ring with a single random key, for tests and tools that never share tokens.
+     */
+    public static JwtKeyRing ephemeral() {
+        JwtKeyRing ring = new JwtKeyRing(null, Duration.ZERO, Duration.ZERO, 0);
+        ring.init();
+        return ring;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (keysFile == null) {
+            keys = List.of(newKey(Instant.now()));
+            log.warn("No tasker.jwt.keys-file configured - signing with a random key, tokens will not survive a restart");
+            return;
+        }
+
+        try {
+            keys = update(current -> current.isEmpty() ? List.of(newKey(Instant.now())) : current);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read JWT keys from " + keysFile, e);
+        }
+        log.info("Loaded {} JWT keys from {}, signing with {}", keys.size(), keysFile, signingKey().id());
+
+        reloader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwt-key-ring");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, reloadInterval.toSeconds());
+        reloader.scheduleWithFixedDelay(this::refresh, period, period, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (reloader != null) {
+            reloader.shutdownNow();
+        }
+    }
+
+    /**
+     * Key for new tokens: the newest one that is already active.
+     */
+    public SigningKey signingKey() {
+        Instant now = Instant.now();
+        List<SigningKey> current = keys;
+        SigningKey active = current.getFirst();
+        for (SigningKey key : current) {
+            if (!key.notBefore().isAfter(now)) {
+                active = key;
+            }
+        }
+        return active;
+    }
+
+    /**
+     * Key a token with the given {@code kid} header was signed with. Keys that are not active
+     * yet are accepted too, another instance with a slightly faster clock may already use them.
+     *
+     * @throws SignatureException if the key is unknown or retired
+     */
+    public SecretKey verificationKey(String kid) {
+        Instant now = Instant.now();
+        List<SigningKey> current = keys;
+        for (int i = 0; i < current.size(); i++) {
+            SigningKey key = current.get(i);
+            if (key.id().equals(kid)) {
+                if (isRetired(current, i, now)) {
+                    throw new SignatureException("JWT key " + kid + " has been retired");
+                }
+                return key.secret();
+            }
+        }
+        throw new SignatureException("Unknown JWT key " + kid);
+    }
+
+    private boolean isRetired(List<SigningKey> current, int index, Instant now) {
+        if (index + 1 >= current.size()) {
+            return false;
+        }
+        Instant successorActive = current.get(index + 1).notBefore();
+        return !successorActive.isAfter(now) && !successorActive.plus(retireAfter).isAfter(now);
+    }
+
+    private void refresh() {
+        try {
+            keys = update(current -> {
+                Instant now = Instant.now();
+                SigningKey newest = current.getLast();
+                if (rotationInterval.isZero() || newest.notBefore().plus(rotationInterval).isAfter(now)) {
+                    return current;
+                }
+
+                // Activate the successor only after every instance has had a reload to pick it up
+                List<SigningKey> rotated = new ArrayList<>();
+                for (int i = 0; i < current.size(); i++) {
+                    if (!isRetired(current, i, now)) {
+                        rotated.add(current.get(i));
+                    }
+                }
+                SigningKey successor = newKey(now.plus(reloadInterval.multipliedBy(2)));
+                rotated.add(successor);
+                log.info("Rotating JWT keys: {} becomes active at {}", successor.id(), successor.notBefore());
+                return rotated;
+            });
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to refresh JWT keys from {} - keeping the current ones", keysFile, e);
+        }
+    }
+
+    /**
+     * Reads the key file under an exclusive lock, lets {@code change} decide the new key list and
+     * writes it back if it differs, so concurrent instances never rotate twice.
+     */
+    private List<SigningKey> update(UnaryOperator<List<SigningKey>> change) throws IOException {
+        if (keysFile.getParent() != null) {
+            Files.createDirectories(keysFile.getParent());
+        }
+        try (FileChannel channel = FileChannel.open(keysFile,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+             FileLock ignored = channel.lock()) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // read the whole file
+            }
+            List<SigningKey> current = parse(new String(buffer.array(), StandardCharsets.US_ASCII));
+            List<SigningKey> changed = change.apply(current);
+
+            if (!changed.equals(current)) {
+                channel.truncate(0);
+                channel.write(ByteBuffer.wrap(format(changed).getBytes(StandardCharsets.US_ASCII)), 0);
+                channel.force(true);
+                restrictPermissions();
+            }
+            return changed;
+        }
+    }
+
+    private List<SigningKey> parse(String content) {
+        List<SigningKey> parsed = new ArrayList<>();
+        for (String line : content.split("\n")) {
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] parts = line.split("\\s+");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Malformed JWT key line in " + keysFile);
+            }
+            try {
+                SecretKey secret = Keys.hmacShaKeyFor(Base64.getDecoder().decode(parts[2]));
+                parsed.add(new SigningKey(parts[0], Instant.parse(parts[1]), secret));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid not-before of JWT key " + parts[0], e);
+            }
+        }
+        parsed.sort(Comparator.comparing(SigningKey::notBefore));
+        return List.copyOf(parsed);
+    }
+
+    private static String format(List<SigningKey> keys) {
+        StringBuilder content = new StringBuilder("# kid not-before secret - shared by all backend instances, keep private\n");
+        for (SigningKey key : keys) {
+            content.append(key.id()).append(' ')
+                    .append(key.notBefore()).append(' ')
+                    .append(Base64.getEncoder().encodeToString(key.secret().getEncoded())).append('\n');
+        }
+        return content.toString();
+    }
+
+    private void restrictPermissions() {
+        try {
+            Files.setPosixFilePermissions(keysFile, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException | IOException e) {
+            log.debug("Could not restrict permissions of {}", keysFile);
+        }
+    }
+
+    private static SigningKey newKey(Instant notBefore) {
+        String id = UUID.randomUUID().toString().substring(0, 8);
+        return new SigningKey(id, notBefore, Keys.secretKeyFor(SignatureAlgorithm.HS256));
+    }
+}
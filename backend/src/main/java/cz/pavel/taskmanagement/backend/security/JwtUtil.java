@@ -1,81 +1,140 @@
 package cz.pavel.taskmanagement.backend.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class JwtUtil {
 
-    private final Key SECRET_KEY = Keys.secretKeyFor(SignatureAlgorithm.HS256);
     private static final long ACCESS_TOKEN_EXPIRATION = 900000; // 15 * 60 * 1000 ms
     private static final long REFRESH_TOKEN_EXPIRATION = 604800000; // 7 * 24 * 60 * 60 * 1000 ms
 
-    public String generateAccessToken(String username, Long userId, String role) {
+    private final JwtKeyRing keyRing;
+
+    // Parsers are immutable and thread-safe, so one is shared instead of built per call
+    private final JwtParser parser;
+
+    // Verified tokens keyed by SHA-256 of the token, so raw bearer tokens are not kept in memory
+    private final Map<String, JwtClaims> verified = new ConcurrentHashMap<>();
+    private final int verifiedCacheSize;
+
+    public JwtUtil(JwtKeyRing keyRing, @Value("${tasker.jwt.verified-cache-size:10000}") int verifiedCacheSize) {
+        this.keyRing = keyRing;
+        this.verifiedCacheSize = verifiedCacheSize;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return keyRing.verificationKey(header.getKeyId());
+                    }
+                })
+                .build();
+    }
+
+    public String generateAccessToken(String username, Long userId, String role, int tokenVersion) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + ACCESS_TOKEN_EXPIRATION);
 
+        JwtKeyRing.SigningKey key = keyRing.signingKey();
+
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, key.id())
                 .setSubject(username)
                 .claim("userId", userId)
                 .claim("role", role)
                 .claim("tokenType", "ACCESS")
+                .claim("tokenVersion", tokenVersion)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(SECRET_KEY)
+                .signWith(key.secret())
                 .compact();
     }
 
-    public String generateRefreshToken(String username) {
+    public String generateRefreshToken(String username, Long userId, int tokenVersion) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + REFRESH_TOKEN_EXPIRATION);
 
+        JwtKeyRing.SigningKey key = keyRing.signingKey();
+
+        // Refresh tokens get an id so a single one can be revoked
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, key.id())
+                .setId(UUID.randomUUID().toString())
                 .setSubject(username)
+                .claim("userId", userId)
                 .claim("tokenType", "REFRESH")
+                .claim("tokenVersion", tokenVersion)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(SECRET_KEY)
+                .signWith(key.secret())
                 .compact();
     }
 
-    public String getTokenType(String token) {
-        Claims claims = parseToken(token);
-        return claims.get("tokenType", String.class);
+    /**
+     * Checks the signature and expiry of {@code token} and returns its claims. A token that
+     * was verified before is served from the cache until its {@code exp}, so repeated requests
+     * with the same token skip the HMAC check and JSON parsing.
+     *
+     * @throws JwtException if the token is malformed, tampered with or expired
+     */
+    public JwtClaims verify(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("Token is empty");
+        }
+
+        Instant now = Instant.now();
+        String key = hash(token);
+        JwtClaims cached = verified.get(key);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            verified.remove(key, cached);
+            throw new ExpiredJwtException(null, null, "Token expired at " + cached.expiresAt());
+        }
+
+        JwtClaims claims = JwtClaims.from(parser.parseClaimsJws(token).getBody());
+        remember(key, claims, now);
+        return claims;
     }
 
-    private Claims parseToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(SECRET_KEY)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public String getTokenType(String token) {
+        return verify(token).tokenType();
     }
 
     public String getUsernameFromToken(String token) {
-        Claims claims = parseToken(token);
-        return claims.getSubject();
+        return verify(token).username();
     }
 
     public Long getUserIdFromToken(String token) {
-        Claims claims = parseToken(token);
-        return claims.get("userId", Long.class);
+        return verify(token).userId();
     }
 
     public String getRoleFromToken(String token) {
-        Claims claims = parseToken(token);
-        return claims.get("role", String.class);
+        return verify(token).role();
     }
 
     public boolean validateToken(String token) {
         try {
-            parseToken(token);
+            verify(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
@@ -84,11 +143,29 @@ public class JwtUtil {
 
     public boolean validateRefreshToken(String token) {
         try {
-            Claims claims = parseToken(token);
-            String tokenType = claims.get("tokenType", String.class);
-            return "REFRESH".equals(tokenType);
+            return "REFRESH".equals(verify(token).tokenType());
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
+
+    private void remember(String key, JwtClaims claims, Instant now) {
+        if (verified.size() >= verifiedCacheSize) {
+            verified.values().removeIf(entry -> entry.isExpired(now));
+            if (verified.size() >= verifiedCacheSize) {
+                // Still full of live tokens - start over, each of them is verified once more
+                verified.clear();
+            }
+        }
+        verified.put(key, claims);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
 }
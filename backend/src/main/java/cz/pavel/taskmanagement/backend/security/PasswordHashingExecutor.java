@@ -0,0 +1,149 @@
+package cz.pavel.taskmanagement.backend.security;
+
+import cz.pavel.taskmanagement.backend.dto.metrics.ExecutorStatsDTO;
+import cz.pavel.taskmanagement.backend.exception.ServiceOverloadedException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Runs password hashing and verification on a small pool of its own instead of on request
+ * threads. BCrypt is deliberately slow, so during a login burst it would otherwise occupy every
+ * Tomcat worker and ordinary reads would queue behind it. The pool has one thread per core and
+ * a bounded queue; when the queue is full, or a request waited longer than the timeout, the
+ * caller gets a 503 with {@code Retry-After} right away.
+ */
+@Component
+@Slf4j
+public class PasswordHashingExecutor {
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final int queueDepth;
+    private final long timeoutMillis;
+
+    private final LongAdder started = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    public PasswordHashingExecutor(
+            PasswordEncoder passwordEncoder,
+            @Value("${tasker.passwords.threads:0}") int threads,
+            @Value("${tasker.passwords.queue-depth:64}") int queueDepth,
+            @Value("${tasker.passwords.timeout-millis:5000}") long timeoutMillis) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+
+        this.passwordEncoder = passwordEncoder;
+        this.queueDepth = queueDepth;
+        this.timeoutMillis = timeoutMillis;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueDepth), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Hashes in the background for work nobody waits for, like upgrading a hash after login.
+     * Only queued while the queue is less than half full, so it never takes a slot a login needs.
+     *
+     * @return false if the work was dropped
+     */
+    public boolean encodeInBackground(CharSequence rawPassword, Consumer<String> onEncoded) {
+        if (executor.getQueue().size() >= queueDepth / 2) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    onEncoded.accept(passwordEncoder.encode(rawPassword));
+                } catch (RuntimeException e) {
+                    log.error("Background password hashing failed", e);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    public ExecutorStatsDTO getStats() {
+        long count = started.sum();
+        return new ExecutorStatsDTO(
+                "password-hashing",
+                executor.getPoolSize(),
+                executor.getActiveCount(),
+                executor.getQueue().size(),
+                queueDepth,
+                executor.getCompletedTaskCount(),
+                rejected.sum(),
+                timedOut.sum(),
+                count == 0 ? 0 : waitNanos.sum() / 1_000_000.0 / count);
+    }
+
+    private <T> T run(Callable<T> work) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                started.increment();
+                waitNanos.add(System.nanoTime() - submittedAt);
+                return work.call();
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("Password hashing queue is full ({} waiting), rejecting request", queueDepth);
+            throw new ServiceOverloadedException("Too many sign-ins in progress, try again shortly", RETRY_AFTER_SECONDS);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            log.warn("Password hashing did not finish within {} ms, rejecting request", timeoutMillis);
+            throw new ServiceOverloadedException("Too many sign-ins in progress, try again shortly", RETRY_AFTER_SECONDS);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package cz.pavel.taskmanagement.backend.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Decides how passwords are stored. New hashes are BCrypt at a cost calibrated on this host, so
+ * that one hash takes at most {@code hash-budget-millis}; {@code bcrypt-cost} pins it instead.
+ * Stored hashes carry an {@code {id}} prefix, which lets older formats keep working next to the
+ * current one: unprefixed hashes from before are plain BCrypt, and {@code {bcrypt-wrapped}}
+ * hashes are weaker hashes strengthened by the rehash job.
+ */
+@Component
+@Slf4j
+public class PasswordPolicy {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String BCRYPT_WRAPPED = "bcrypt-wrapped";
+
+    private static final int MIN_COST = 10;
+    private static final int MAX_COST = 16;
+    private static final String BCRYPT_PREFIX = "{" + BCRYPT + "}";
+
+    private final int cost;
+    private final DelegatingPasswordEncoder encoder;
+    private final WrappedBCryptPasswordEncoder wrappedEncoder;
+
+    public PasswordPolicy(
+            @Value("${tasker.passwords.bcrypt-cost:0}") int configuredCost,
+            @Value("${tasker.passwords.hash-budget-millis:250}") long budgetMillis) {
+        this.cost = configuredCost > 0 ? configuredCost : calibrate(budgetMillis);
+        this.wrappedEncoder = new WrappedBCryptPasswordEncoder(cost);
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(cost);
+        this.encoder = new DelegatingPasswordEncoder(BCRYPT, Map.of(BCRYPT, bcrypt, BCRYPT_WRAPPED, wrappedEncoder));
+        this.encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        log.info("Hashing passwords with BCrypt cost {}", cost);
+    }
+
+    public PasswordEncoder encoder() {
+        return encoder;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * True for plain BCrypt hashes below the target cost, which the rehash job can strengthen
+     * without the password.
+     */
+    public boolean isWrappable(String storedHash) {
+        String hash = stripBcryptPrefix(storedHash);
+        return hash != null && hash.startsWith("$2") && hash.length() == 60 && costOf(hash) < cost;
+    }
+
+    public String wrap(String storedHash) {
+        return "{" + BCRYPT_WRAPPED + "}" + wrappedEncoder.wrap(stripBcryptPrefix(storedHash));
+    }
+
+    private static String stripBcryptPrefix(String storedHash) {
+        if (storedHash == null) {
+            return null;
+        }
+        return storedHash.startsWith(BCRYPT_PREFIX) ? storedHash.substring(BCRYPT_PREFIX.length()) : storedHash;
+    }
+
+    private static int costOf(String bcryptHash) {
+        try {
+            return Integer.parseInt(bcryptHash.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    // Each extra cost step doubles the time, so stop at the first one over the budget
+    private static int calibrate(long budgetMillis) {
+        BCrypt.hashpw("calibration", BCrypt.gensalt(MIN_COST));
+        int chosen = MIN_COST;
+        for (int candidate = MIN_COST; candidate <= MAX_COST; candidate++) {
+            long started = System.nanoTime();
+            BCrypt.hashpw("calibration", BCrypt.gensalt(candidate));
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+            if (elapsedMillis > budgetMillis) {
+                if (candidate == MIN_COST) {
+                    log.warn("BCrypt cost {} takes {} ms, over the {} ms budget - using it anyway", candidate, elapsedMillis, budgetMillis);
+                }
+                break;
+            }
+            chosen = candidate;
+        }
+        return chosen;
+    }
+}
@@ -0,0 +1,152 @@
+package cz.pavel.taskmanagement.backend.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-client rate limiting, placed first in the security chain. Requests with a valid access
+ * token are keyed by its user id, so users behind one NAT or proxy do not share a budget and
+ * nobody can escape their own by rotating addresses. The token is verified here through
+ * {@link JwtUtil#verify}, whose cache makes the repeat check in the JWT filter free. Login,
+ * refresh and requests without a valid token are keyed by client IP and charged to the auth
+ * budget; behind a proxy the IP comes from {@code X-Forwarded-For}, trusted only from the
+ * addresses in {@code server.tomcat.remoteip.internal-proxies}. Each class of endpoint has its
+ * own buckets, so a script hammering the full task list does not use up the budget for
+ * ordinary reads and writes. Rejected requests get a 429 with {@code Retry-After}.
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    enum EndpointClass {
+        AUTH,
+        HEAVY,
+        READ,
+        WRITE;
+
+        static EndpointClass of(HttpServletRequest request) {
+            String path = request.getRequestURI();
+            if (path.startsWith("/api/auth/")) {
+                return AUTH;
+            }
+            if (!path.startsWith("/api/") || path.startsWith("/api/health")) {
+                return null;
+            }
+            String method = request.getMethod();
+            boolean read = "GET".equals(method) || "HEAD".equals(method);
+            // Only reading the full task list is heavy, creating a task there is an ordinary write
+            if ((read && (path.equals("/api/tasks") || path.equals("/api/tasks/")))
+                    || path.startsWith("/api/tasks/export") || path.startsWith("/api/tasks/bulk")) {
+                return HEAVY;
+            }
+            return read ? READ : WRITE;
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final JwtUtil jwtUtil;
+    private final boolean enabled;
+    private final Map<EndpointClass, TokenBucketLimiter<String>> limiters = new EnumMap<>(EndpointClass.class);
+
+    public RateLimitFilter(
+            ObjectMapper objectMapper,
+            JwtUtil jwtUtil,
+            @Value("${tasker.rate-limit.enabled:true}") boolean enabled,
+            @Value("${tasker.rate-limit.max-clients:100000}") int maxClients,
+            @Value("${tasker.rate-limit.auth.per-second:10}") double authRate,
+            @Value("${tasker.rate-limit.auth.burst:50}") int authBurst,
+            @Value("${tasker.rate-limit.heavy.per-second:1}") double heavyRate,
+            @Value("${tasker.rate-limit.heavy.burst:5}") int heavyBurst,
+            @Value("${tasker.rate-limit.read.per-second:50}") double readRate,
+            @Value("${tasker.rate-limit.read.burst:100}") int readBurst,
+            @Value("${tasker.rate-limit.write.per-second:20}") double writeRate,
+            @Value("${tasker.rate-limit.write.burst:50}") int writeBurst) {
+        this.objectMapper = objectMapper;
+        this.jwtUtil = jwtUtil;
+        this.enabled = enabled;
+        limiters.put(EndpointClass.AUTH, new TokenBucketLimiter<>(authRate, authBurst, maxClients));
+        limiters.put(EndpointClass.HEAVY, new TokenBucketLimiter<>(heavyRate, heavyBurst, maxClients));
+        limiters.put(EndpointClass.READ, new TokenBucketLimiter<>(readRate, readBurst, maxClients));
+        limiters.put(EndpointClass.WRITE, new TokenBucketLimiter<>(writeRate, writeBurst, maxClients));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        EndpointClass endpointClass = EndpointClass.of(request);
+        if (endpointClass == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String clientKey = endpointClass == EndpointClass.AUTH ? null : verifiedUserKey(request);
+        if (clientKey == null) {
+            // Unauthenticated attempts share the auth budget of their address
+            endpointClass = EndpointClass.AUTH;
+            clientKey = "ip:" + request.getRemoteAddr();
+        }
+
+        long waitNanos = limiters.get(endpointClass).tryAcquire(clientKey, System.nanoTime());
+        if (waitNanos > 0) {
+            reject(request, response, waitNanos);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String verifiedUserKey(HttpServletRequest request) {
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return null;
+        }
+        try {
+            JwtClaims claims = jwtUtil.verify(authHeader.substring(7));
+            return "ACCESS".equals(claims.tokenType()) && claims.userId() != null ? "user:" + claims.userId() : null;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+        log.debug("Rate limit exceeded for {} {}", request.getMethod(), request.getRequestURI());
+
+        response.setStatus(429);
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType("application/json");
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now().toString());
+        errorResponse.put("status", 429);
+        errorResponse.put("error", "Too Many Requests");
+        errorResponse.put("message", "Rate limit exceeded, retry in " + retryAfterSeconds + " s");
+        errorResponse.put("path", request.getRequestURI());
+
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
@@ -0,0 +1,101 @@
+package cz.pavel.taskmanagement.backend.security;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets per key, each kept as a single {@code long}: the time at which the bucket would
+ * be full again (the GCRA form of a token bucket). Taking a token is one compare-and-set, so
+ * there are no locks and no per-request allocation for known keys.
+ * <p>
+ * A bucket that has refilled completely is indistinguishable from a new one, so such entries
+ * can be dropped at any time. When the map reaches {@code maxKeys}, those idle entries are swept,
+ * at most once per second since a sweep walks the whole map. If it is still full, new keys are
+ * rejected until a sweep frees space; keys that already have a bucket keep their own budget.
+ */
+public class TokenBucketLimiter<K> {
+
+    private static final long SWEEP_INTERVAL_NANOS = 1_000_000_000L;
+    private static final long NOT_SWEPT = Long.MIN_VALUE;
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final int maxKeys;
+
+    private final Map<K, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweep = new AtomicLong(NOT_SWEPT);
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    public TokenBucketLimiter(double permitsPerSecond, int burst, int maxKeys) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate limit needs a positive rate and a burst of at least 1");
+        }
+        this.intervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.toleranceNanos = intervalNanos * burst;
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * Takes a token for {@code key} at time {@code nowNanos} ({@link System#nanoTime()}).
+     *
+     * @return 0 if the request may proceed, otherwise nanoseconds until a token is available
+     */
+    public long tryAcquire(K key, long nowNanos) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = register(key, nowNanos);
+            if (bucket == null) {
+                return rejectionWait(nowNanos);
+            }
+        }
+
+        while (true) {
+            long fullAt = bucket.get();
+            long next = Math.max(fullAt, nowNanos) + intervalNanos;
+            long wait = next - toleranceNanos - nowNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(fullAt, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    // Null when the map is full and the sweep did not free space
+    private AtomicLong register(K key, long nowNanos) {
+        if (buckets.size() >= maxKeys) {
+            sweep(nowNanos);
+            if (buckets.size() >= maxKeys) {
+                return null;
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(nowNanos));
+    }
+
+    private void sweep(long nowNanos) {
+        long next = nextSweep.get();
+        if (next != NOT_SWEPT && nowNanos - next < 0) {
+            return;
+        }
+        if (sweeping.compareAndSet(false, true)) {
+            try {
+                nextSweep.set(nowNanos + SWEEP_INTERVAL_NANOS);
+                buckets.values().removeIf(bucket -> bucket.get() <= nowNanos);
+            } finally {
+                sweeping.set(false);
+            }
+        }
+    }
+
+    private long rejectionWait(long nowNanos) {
+        long next = nextSweep.get();
+        return next == NOT_SWEPT ? SWEEP_INTERVAL_NANOS : Math.max(next - nowNanos, intervalNanos);
+    }
+}
@@ -0,0 +1,206 @@
+package cz.pavel.taskmanagement.backend.security;
+
+import cz.pavel.taskmanagement.backend.dto.user.UserTokenVersion;
+import cz.pavel.taskmanagement.backend.event.UserTokenVersionChangedEvent;
+import cz.pavel.taskmanagement.backend.repository.RevokedTokenRepository;
+import cz.pavel.taskmanagement.backend.repository.UserRepository;
+import cz.pavel.taskmanagement.backend.threads.BackgroundThreads;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides whether a correctly signed token has been revoked, mostly without touching the database.
+ * <p>
+ * Every token carries the user's token version from the time it was issued. The current
+ * version of each user is kept in memory, so bumping it (role or password change) or
+ * deleting the user invalidates all of that user's tokens at once. Individual refresh tokens
+ * are denylisted by id once they have been used or logged out. Both tables are loaded at
+ * startup and kept up to date by the writes that change them. Writes made by other instances
+ * reach this one through a periodic poll for users updated since the previous one, and a user
+ * this instance has not seen yet is read once on first use.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationService {
+
+    // Version of deleted users, never matches a token since versions start at 0
+    private static final int DELETED = -1;
+    private static final Duration PURGE_INTERVAL = Duration.ofHours(1);
+    // Polls overlap so a write committed late or stamped by a slightly slower clock is not missed
+    private static final Duration POLL_OVERLAP = Duration.ofMinutes(1);
+    private static final int EXISTS_BATCH_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BackgroundThreads backgroundThreads;
+
+    @Value("${tasker.jwt.keys-reload-seconds:60}")
+    private long refreshSeconds;
+
+    private final Map<Long, Integer> versions = new ConcurrentHashMap<>();
+    private final Map<String, Instant> denylist = new ConcurrentHashMap<>();
+    private volatile Instant nextPurge = Instant.EPOCH;
+    private volatile LocalDateTime lastPoll;
+    private ScheduledExecutorService poller;
+
+    @PostConstruct
+    public void load() {
+        LocalDateTime started = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            revokedTokenRepository.deleteExpired(LocalDateTime.now());
+            userRepository.findTokenVersions()
+                    .forEach(user -> register(user.id(), user.tokenVersion()));
+            revokedTokenRepository.findAll()
+                    .forEach(token -> denylist.put(token.getTokenId(), toInstant(token.getExpiresAt())));
+        });
+        lastPoll = started;
+        nextPurge = Instant.now().plus(PURGE_INTERVAL);
+        log.info("Loaded token versions of {} users and {} revoked refresh tokens", versions.size(), denylist.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long period = Math.max(1, refreshSeconds);
+        poller = Executors.newSingleThreadScheduledExecutor(backgroundThreads.factory("token-versions"));
+        poller.scheduleWithFixedDelay(this::refresh, period, period, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+    }
+
+    /**
+     * True when {@code tokenVersion} is still the user's current version. A user missing from
+     * the table, e.g. created on another instance, is read from the database once and kept.
+     */
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        if (userId == null) {
+            return false;
+        }
+        Integer current = versions.get(userId);
+        if (current == null) {
+            current = userRepository.findTokenVersionById(userId)
+                    .map(user -> register(user.id(), user.tokenVersion()))
+                    .orElseGet(() -> markDeleted(userId));
+        }
+        return current == tokenVersion;
+    }
+
+    /**
+     * Records a version read from the database. Versions only move forward, and a deleted
+     * user stays deleted even if a login that read the row earlier finishes afterwards.
+     */
+    public int register(Long userId, int tokenVersion) {
+        return versions.merge(userId, tokenVersion, (current, read) -> current == DELETED ? DELETED : Math.max(current, read));
+    }
+
+    private int markDeleted(Long userId) {
+        versions.put(userId, DELETED);
+        return DELETED;
+    }
+
+    /**
+     * Picks up token versions changed and users deleted by other instances since the last poll.
+     * Deleted rows leave nothing to poll for, so the users known here are checked for existence.
+     */
+    private void refresh() {
+        try {
+            LocalDateTime started = LocalDateTime.now();
+            List<UserTokenVersion> changed = userRepository.findTokenVersionsUpdatedSince(lastPoll.minus(POLL_OVERLAP));
+            changed.forEach(user -> register(user.id(), user.tokenVersion()));
+
+            List<Long> known = versions.entrySet().stream()
+                    .filter(entry -> entry.getValue() != DELETED)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            int deleted = 0;
+            for (int from = 0; from < known.size(); from += EXISTS_BATCH_SIZE) {
+                List<Long> batch = known.subList(from, Math.min(from + EXISTS_BATCH_SIZE, known.size()));
+                Set<Long> existing = new HashSet<>(userRepository.findExistingIds(batch));
+                for (Long userId : batch) {
+                    if (!existing.contains(userId)) {
+                        markDeleted(userId);
+                        deleted++;
+                    }
+                }
+            }
+            lastPoll = started;
+            if (!changed.isEmpty() || deleted > 0) {
+                log.debug("Refreshed token versions of {} changed and {} deleted users", changed.size(), deleted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Refreshing token versions failed, retrying next period: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTokenVersionChanged(UserTokenVersionChangedEvent event) {
+        if (event.tokenVersion() == null) {
+            versions.put(event.userId(), DELETED);
+            log.info("Revoked all tokens of deleted user {}", event.userId());
+        } else {
+            register(event.userId(), event.tokenVersion());
+            log.info("Revoked tokens of user {} older than version {}", event.userId(), event.tokenVersion());
+        }
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && denylist.containsKey(tokenId);
+    }
+
+    /**
+     * Denylists one refresh token until it expires and returns whether this call was the one
+     * that did it. The row is inserted against the primary key, so of two concurrent uses of the
+     * same token only one succeeds, also across instances. Must be called inside a transaction;
+     * the in-memory entry is added right away, so a rolled back revoke errs on the side of rejecting.
+     */
+    public boolean revoke(String tokenId, Instant expiresAt) {
+        try {
+            revokedTokenRepository.insert(tokenId, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()));
+        } catch (DataIntegrityViolationException e) {
+            denylist.put(tokenId, expiresAt);
+            log.warn("Refresh token {} was already revoked", tokenId);
+            return false;
+        }
+        denylist.put(tokenId, expiresAt);
+
+        Instant now = Instant.now();
+        if (now.isAfter(nextPurge)) {
+            nextPurge = now.plus(PURGE_INTERVAL);
+            denylist.values().removeIf(expiry -> !expiry.isAfter(now));
+            revokedTokenRepository.deleteExpired(LocalDateTime.ofInstant(now, ZoneId.systemDefault()));
+        }
+        return true;
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
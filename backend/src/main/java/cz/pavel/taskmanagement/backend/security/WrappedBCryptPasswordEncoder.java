@@ -0,0 +1,46 @@
+package cz.pavel.taskmanagement.backend.security;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Strengthens an existing BCrypt hash without knowing the password: the old hash is hashed
+ * again with BCrypt at the target cost. The stored value is the old salt (with its cost)
+ * followed by the outer hash, so a login recomputes the old hash from the password and checks
+ * it against the outer one. Wrapped hashes always ask for an upgrade, the next successful
+ * login replaces them with a plain hash at the target cost.
+ */
+public class WrappedBCryptPasswordEncoder implements PasswordEncoder {
+
+    // "$2a$10$" followed by the 22 character salt
+    private static final int SALT_LENGTH = 29;
+
+    private final int cost;
+
+    public WrappedBCryptPasswordEncoder(int cost) {
+        this.cost = cost;
+    }
+
+    public String wrap(String bcryptHash) {
+        return bcryptHash.substring(0, SALT_LENGTH) + BCrypt.hashpw(bcryptHash, BCrypt.gensalt(cost));
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        throw new UnsupportedOperationException("Wrapped hashes are only created from existing BCrypt hashes");
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null || encodedPassword.length() <= SALT_LENGTH) {
+            return false;
+        }
+        String innerHash = BCrypt.hashpw(rawPassword.toString(), encodedPassword.substring(0, SALT_LENGTH));
+        return BCrypt.checkpw(innerHash, encodedPassword.substring(SALT_LENGTH));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return true;
+    }
+}
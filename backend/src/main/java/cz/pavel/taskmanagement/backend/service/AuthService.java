@@ -6,7 +6,11 @@ import cz.pavel.taskmanagement.backend.dto.auth.RefreshTokenRequest;
 import cz.pavel.taskmanagement.backend.dto.user.UserResponseDTO;
 import cz.pavel.taskmanagement.backend.entity.User;
 import cz.pavel.taskmanagement.backend.repository.UserRepository;
+import cz.pavel.taskmanagement.backend.security.JwtClaims;
 import cz.pavel.taskmanagement.backend.security.JwtUtil;
+import cz.pavel.taskmanagement.backend.security.PasswordHashingExecutor;
+import cz.pavel.taskmanagement.backend.security.TokenRevocationService;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -17,59 +21,120 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional(readOnly = true)
 public class AuthService {
 
     private final UserRepository userRepository;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
 
+    // Not transactional: the user is read in the repository's own short transaction and, with
+    // open-in-view off, no connection is held while the password check waits for a hashing thread
     public LoginResponse login(LoginRequest request) {
         log.info("Login attempt for username: {}", request.getUsername());
 
         User user = userRepository.findByUsername(request.getUsername())
                 .orElseThrow(() -> new BadCredentialsException("Invalid username or password"));
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHashingExecutor.matches(request.getPassword(), user.getPassword())) {
             log.warn("Failed login attempt for username: {}", request.getUsername());
             throw new BadCredentialsException("Invalid username or password");
         }
+        upgradePasswordHash(user, request.getPassword());
+
+        tokenRevocationService.register(user.getId(), user.getTokenVersion());
 
         String accessToken = jwtUtil.generateAccessToken(
                 user.getUsername(),
                 user.getId(),
-                user.getRole().name()
+                user.getRole().name(),
+                user.getTokenVersion()
         );
 
-        String refreshToken = jwtUtil.generateRefreshToken(user.getUsername());
+        String refreshToken = jwtUtil.generateRefreshToken(user.getUsername(), user.getId(), user.getTokenVersion());
 
         log.info("User {} logged in successfully", user.getUsername());
         return new LoginResponse(accessToken, refreshToken, new UserResponseDTO(user));
     }
 
+    @Transactional
     public LoginResponse refreshToken(RefreshTokenRequest request) {
-        String refreshToken = request.getRefreshToken();
+        JwtClaims claims = verifyRefreshToken(request.getRefreshToken());
+        String userName = claims.username();
+
+        User user = userRepository.findByUsername(userName)
+                .orElseThrow(() -> new BadCredentialsException("User not found"));
 
-        if (!jwtUtil.validateRefreshToken(refreshToken)) {
+        if (user.getTokenVersion() != claims.tokenVersion()) {
             throw new BadCredentialsException("Invalid or expired refresh token");
         }
+        tokenRevocationService.register(user.getId(), user.getTokenVersion());
 
-        String userName = jwtUtil.getUsernameFromToken(refreshToken);
-
-        User user = userRepository.findByUsername(userName)
-                .orElseThrow(() -> new BadCredentialsException("User not found"));
+        // Each refresh token is single use, the client continues with the new one. A concurrent
+        // refresh with the same token may have passed the check above, only one of them gets through here
+        if (!tokenRevocationService.revoke(claims.tokenId(), claims.expiresAt())) {
+            throw new BadCredentialsException("Invalid or expired refresh token");
+        }
 
         String newAccessToken = jwtUtil.generateAccessToken(
                 user.getUsername(),
                 user.getId(),
-                user.getRole().name()
+                user.getRole().name(),
+                user.getTokenVersion()
         );
 
         String newRefreshTOken = jwtUtil.generateRefreshToken(
-                user.getUsername()
+                user.getUsername(),
+                user.getId(),
+                user.getTokenVersion()
         );
 
         log.info("Tokens refreshed for user", userName);
         return new LoginResponse(newAccessToken, newRefreshTOken, new UserResponseDTO(user));
     }
+
+    @Transactional
+    public void logout(RefreshTokenRequest request) {
+        JwtClaims claims = verifyRefreshToken(request.getRefreshToken());
+        if (!tokenRevocationService.revoke(claims.tokenId(), claims.expiresAt())) {
+            throw new BadCredentialsException("Invalid or expired refresh token");
+        }
+        log.info("User {} logged out", claims.username());
+    }
+
+    // The password is at hand only now, so hashes below the current policy are replaced here,
+    // in the background so the login does not wait for a second hash
+    private void upgradePasswordHash(User user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        Long userId = user.getId();
+        String username = user.getUsername();
+        String oldHash = user.getPassword();
+
+        boolean queued = passwordHashingExecutor.encodeInBackground(rawPassword, upgraded -> {
+            if (userRepository.replacePassword(userId, oldHash, upgraded) == 1) {
+                log.info("Upgraded password hash of user {}", username);
+            }
+        });
+        if (!queued) {
+            log.debug("Skipping password hash upgrade of user {} under load", username);
+        }
+    }
+
+    private JwtClaims verifyRefreshToken(String refreshToken) {
+        JwtClaims claims;
+        try {
+            claims = jwtUtil.verify(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BadCredentialsException("Invalid or expired refresh token");
+        }
+
+        if (!"REFRESH".equals(claims.tokenType()) || claims.tokenId() == null
+                || tokenRevocationService.isRevoked(claims.tokenId())) {
+            throw new BadCredentialsException("Invalid or expired refresh token");
+        }
+        return claims;
+    }
 }
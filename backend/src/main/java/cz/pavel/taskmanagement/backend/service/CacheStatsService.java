@@ -0,0 +1,42 @@
+package cz.pavel.taskmanagement.backend.service;
+
+import cz.pavel.taskmanagement.backend.dto.cache.CacheRegionStatsDTO;
+import cz.pavel.taskmanagement.backend.entity.Project;
+import cz.pavel.taskmanagement.backend.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheStatsService {
+
+    private static final List<String> REGIONS = List.of(User.CACHE_REGION, Project.CACHE_REGION);
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    // Empty when tasker.cache.statistics is off
+    public List<CacheRegionStatsDTO> getRegionStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return List.of();
+        }
+        return REGIONS.stream()
+                .map(statistics::getCacheRegionStatistics)
+                .filter(Objects::nonNull)
+                .map(CacheRegionStatsDTO::new)
+                .toList();
+    }
+
+    public void evictAll() {
+        log.info("Evicting all entries from the second-level cache");
+        entityManagerFactory.getCache().evictAll();
+    }
+}
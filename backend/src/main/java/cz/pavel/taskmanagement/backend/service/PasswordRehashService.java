@@ -0,0 +1,114 @@
+package cz.pavel.taskmanagement.backend.service;
+
+import cz.pavel.taskmanagement.backend.dto.job.JobResponseDTO;
+import cz.pavel.taskmanagement.backend.dto.user.UserPassword;
+import cz.pavel.taskmanagement.backend.job.Job;
+import cz.pavel.taskmanagement.backend.job.JobRegistry;
+import cz.pavel.taskmanagement.backend.repository.UserRepository;
+import cz.pavel.taskmanagement.backend.security.PasswordPolicy;
+import cz.pavel.taskmanagement.backend.threads.BackgroundThreads;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Strengthens stored password hashes that are below the current BCrypt cost.
+ * <p>
+ * Users who log in are rehashed by {@code AuthService.login}, which has the password. For
+ * dormant accounts this job wraps the old hash in a new BCrypt hash instead, see
+ * {@link cz.pavel.taskmanagement.backend.security.WrappedBCryptPasswordEncoder}. The hashing
+ * runs on a thread of its own and pauses between batches, so it takes at most one core away
+ * from logins and never holds up project deletion or offboarding jobs on the shared worker.
+ * Repeated requests queue behind the running rehash.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PasswordRehashService {
+
+    public static final String JOB_TYPE = "password-rehash";
+
+    private final UserRepository userRepository;
+    private final PasswordPolicy passwordPolicy;
+    private final TransactionTemplate transactionTemplate;
+    private final JobRegistry jobRegistry;
+    private final BackgroundThreads backgroundThreads;
+    private ExecutorService rehashWorker;
+
+    @Value("${tasker.passwords.rehash-batch-size:50}")
+    private int batchSize;
+
+    @Value("${tasker.passwords.rehash-pause-millis:1000}")
+    private long pauseMillis;
+
+    @PostConstruct
+    public void init() {
+        rehashWorker = Executors.newSingleThreadExecutor(backgroundThreads.factory("password-rehash"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rehashWorker.shutdownNow();
+    }
+
+    public JobResponseDTO rehashPasswords() {
+        log.info("Starting password rehash to BCrypt cost {}", passwordPolicy.getCost());
+        Job job = jobRegistry.create(JOB_TYPE, null);
+        jobRegistry.run(job, this::rehash, rehashWorker);
+        return new JobResponseDTO(job);
+    }
+
+    private void rehash(Job job) {
+        long started = System.currentTimeMillis();
+        job.start(userRepository.count());
+
+        long afterId = 0;
+        int wrapped = 0;
+        while (true) {
+            List<UserPassword> batch = userRepository.findPasswordsAfter(afterId, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            Map<UserPassword, String> replacements = new HashMap<>();
+            for (UserPassword user : batch) {
+                if (passwordPolicy.isWrappable(user.password())) {
+                    replacements.put(user, passwordPolicy.wrap(user.password()));
+                }
+            }
+            if (!replacements.isEmpty()) {
+                Integer replaced = transactionTemplate.execute(status -> replacements.entrySet().stream()
+                        .mapToInt(entry -> userRepository.replacePassword(
+                                entry.getKey().id(), entry.getKey().password(), entry.getValue()))
+                        .sum());
+                wrapped += replaced != null ? replaced : 0;
+            }
+
+            job.progress(batch.size());
+            afterId = batch.getLast().id();
+            pause();
+        }
+
+        log.info("Password rehash finished: {} hashes strengthened in {} ms", wrapped, System.currentTimeMillis() - started);
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Password rehash interrupted", e);
+        }
+    }
+}
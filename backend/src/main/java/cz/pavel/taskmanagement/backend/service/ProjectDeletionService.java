@@ -0,0 +1,111 @@
+package cz.pavel.taskmanagement.backend.service;
+
+import cz.pavel.taskmanagement.backend.event.ProjectDeletionRequestedEvent;
+import cz.pavel.taskmanagement.backend.event.TasksDeletedEvent;
+import cz.pavel.taskmanagement.backend.job.Job;
+import cz.pavel.taskmanagement.backend.job.JobRegistry;
+import cz.pavel.taskmanagement.backend.repository.ProjectRepository;
+import cz.pavel.taskmanagement.backend.repository.TaskRepository;
+import cz.pavel.taskmanagement.backend.repository.TaskTemplateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Removes projects marked deleted by {@link ProjectService#deleteProject(Long)}.
+ * <p>
+ * Tasks are deleted in id-range chunks of {@code tasker.projects.delete-chunk-size}, each in its
+ * own short transaction, so a project with hundreds of thousands of tasks never holds locks long
+ * enough to stall other writers. The project row goes last. Projects left marked deleted by a
+ * restart are picked up again on startup.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectDeletionService {
+
+    public static final String JOB_TYPE = "project-deletion";
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final TaskTemplateRepository taskTemplateRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JobRegistry jobRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${tasker.projects.delete-chunk-size:1000}")
+    private int chunkSize;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeletionRequested(ProjectDeletionRequestedEvent event) {
+        jobRegistry.find(event.jobId())
+                .ifPresent(job -> jobRegistry.run(job, j -> deleteProject(j, event.projectId())));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePendingDeletions() {
+        List<Long> pending = projectRepository.findDeletedIds();
+        if (!pending.isEmpty()) {
+            log.info("Resuming deletion of {} projects", pending.size());
+        }
+        for (Long projectId : pending) {
+            Job job = jobRegistry.create(JOB_TYPE, projectId);
+            jobRegistry.run(job, j -> deleteProject(j, projectId));
+        }
+    }
+
+    private void deleteProject(Job job, Long projectId) {
+        log.info("Deleting tasks of project {} in chunks of {}", projectId, chunkSize);
+        long started = System.currentTimeMillis();
+        job.start(taskRepository.countByProjectId(projectId));
+
+        long afterId = 0;
+        while (true) {
+            long from = afterId;
+            Long lastId = transactionTemplate.execute(status -> deleteChunk(projectId, from, job));
+            if (lastId == null) {
+                break;
+            }
+            afterId = lastId;
+        }
+
+        // Tasks created concurrently with a lower id than the last chunk are swept up here
+        Integer purged = transactionTemplate.execute(status -> {
+            List<Long> stragglers = taskRepository.findIdsByProjectIdAfter(projectId, 0L, Pageable.unpaged());
+            taskRepository.deleteAllByProjectId(projectId);
+            if (!stragglers.isEmpty()) {
+                eventPublisher.publishEvent(new TasksDeletedEvent(stragglers));
+            }
+            taskTemplateRepository.deleteByProjectIdInBulk(projectId);
+            return projectRepository.purgeDeleted(projectId);
+        });
+        log.info("Project {} deleted ({} tasks) in {} ms", projectId, job.getProcessed().get(),
+                System.currentTimeMillis() - started);
+        if (purged == null || purged == 0) {
+            log.warn("Project {} was already removed", projectId);
+        }
+    }
+
+    private Long deleteChunk(Long projectId, long afterId, Job job) {
+        List<Long> ids = taskRepository.findIdsByProjectIdAfter(projectId, afterId, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return null;
+        }
+        Long upToId = ids.getLast();
+        int deleted = taskRepository.deleteByProjectIdInRange(projectId, afterId, upToId);
+        // One event per chunk, listeners drop the deleted tasks from their in-memory state
+        eventPublisher.publishEvent(new TasksDeletedEvent(ids));
+        job.progress(deleted);
+        return upToId;
+    }
+}
@@ -1,20 +1,32 @@
 package cz.pavel.taskmanagement.backend.service;
 
+import cz.pavel.taskmanagement.backend.coalesce.Coalesced;
+import cz.pavel.taskmanagement.backend.dto.job.JobResponseDTO;
 import cz.pavel.taskmanagement.backend.dto.project.ProjectCreateDTO;
 import cz.pavel.taskmanagement.backend.dto.project.ProjectResponseDTO;
+import cz.pavel.taskmanagement.backend.dto.project.ProjectSummary;
+import cz.pavel.taskmanagement.backend.dto.project.ProjectTaskCount;
 import cz.pavel.taskmanagement.backend.dto.project.ProjectUpdateDTO;
 import cz.pavel.taskmanagement.backend.entity.Project;
 import cz.pavel.taskmanagement.backend.entity.User;
+import cz.pavel.taskmanagement.backend.event.ProjectDeletionRequestedEvent;
 import cz.pavel.taskmanagement.backend.exception.ResourceNotFoundException;
+import cz.pavel.taskmanagement.backend.job.Job;
+import cz.pavel.taskmanagement.backend.job.JobRegistry;
 import cz.pavel.taskmanagement.backend.repository.ProjectRepository;
 import cz.pavel.taskmanagement.backend.repository.TaskRepository;
 import cz.pavel.taskmanagement.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,29 +38,46 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final TaskRepository taskRepository;
+    private final JobRegistry jobRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * When enabled, task counts come from the projects.task_count column kept up to date
+     * by TaskService instead of being counted on every read.
+     */
+    @Value("${tasker.projects.denormalized-task-count:false}")
+    private boolean denormalizedTaskCount;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcileTaskCounts() {
+        if (denormalizedTaskCount) {
+            int updated = projectRepository.recountTasks();
+            log.info("Reconciled task counts of {} projects", updated);
+        }
+    }
+
+    @Coalesced
     public List<ProjectResponseDTO> getAllProjects() {
         log.info("Fetching all projects");
-        return projectRepository.findAll().stream()
-                .map(this::toResponseDTO)
-                .collect(Collectors.toList());
+        return toResponseDTOs(projectRepository.findAllSummaries());
     }
 
     public ProjectResponseDTO getProjectById(Long id) {
         log.info("Fetching project with id: {}", id);
-        Project project = projectRepository.findById(id)
+        Project project = projectRepository.findActiveById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", id));
         return toResponseDTO(project);
     }
 
+    @Coalesced
     public List<ProjectResponseDTO> getProjectsByOwner(Long ownerId) {
         log.info("Fetching projects for owner id: {}", ownerId);
-        User owner = userRepository.findById(ownerId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", ownerId));
+        if (!userRepository.existsById(ownerId)) {
+            throw new ResourceNotFoundException("User", ownerId);
+        }
 
-        return projectRepository.findByOwner(owner).stream()
-                .map(this::toResponseDTO)
-                .collect(Collectors.toList());
+        return toResponseDTOs(projectRepository.findSummariesByOwnerId(ownerId));
     }
 
     @Transactional
@@ -73,7 +102,7 @@ public class ProjectService {
     public ProjectResponseDTO updateProject(Long id, ProjectUpdateDTO updateDTO) {
         log.info("Updating project with id: {}", id);
 
-        Project project = projectRepository.findById(id)
+        Project project = projectRepository.findActiveById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", id));
 
         if (updateDTO.getName() != null) {
@@ -90,22 +119,54 @@ public class ProjectService {
         return toResponseDTO(updatedProject);
     }
 
+    /**
+     * Hides the project right away and leaves removing it and its tasks to a background job,
+     * see {@link ProjectDeletionService}.
+     */
     @Transactional
-    public void deleteProject(Long id) {
+    public JobResponseDTO deleteProject(Long id) {
         log.info("Deleting project with id: {}", id);
 
-        if (!projectRepository.existsById(id)) {
+        if (projectRepository.markDeleted(id) == 0) {
             throw new ResourceNotFoundException("Project", id);
         }
 
-        projectRepository.deleteById(id);
-        log.info("Project deleted successfully with id: {}", id);
+        Job job = jobRegistry.create(ProjectDeletionService.JOB_TYPE, id);
+        eventPublisher.publishEvent(new ProjectDeletionRequestedEvent(id, job.getId()));
+        log.info("Project {} marked deleted, deletion job {} scheduled", id, job.getId());
+
+        return new JobResponseDTO(job);
     }
 
     private ProjectResponseDTO toResponseDTO(Project project) {
         ProjectResponseDTO dto = new ProjectResponseDTO(project);
-        long count = taskRepository.countByProject(project);
+        // The count of a cached project may lag behind, adjustTaskCount does not evict it
+        long count = denormalizedTaskCount ? projectRepository.findTaskCount(project.getId()) : taskRepository.countByProject(project);
         dto.setTaskCount((int) count);
         return dto;
     }
+
+    private List<ProjectResponseDTO> toResponseDTOs(List<ProjectSummary> summaries) {
+        Map<Long, Long> counts = denormalizedTaskCount ? Map.of() : countTasks(summaries);
+
+        return summaries.stream()
+                .map(summary -> {
+                    ProjectResponseDTO dto = new ProjectResponseDTO(summary);
+                    dto.setTaskCount(denormalizedTaskCount
+                            ? summary.taskCount()
+                            : counts.getOrDefault(summary.id(), 0L).intValue());
+                    return dto;
+                })
+                .toList();
+    }
+
+    // One grouped COUNT for the whole list instead of one COUNT per project
+    private Map<Long, Long> countTasks(List<ProjectSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = summaries.stream().map(ProjectSummary::id).toList();
+        return taskRepository.countByProjectIds(ids).stream()
+                .collect(Collectors.toMap(ProjectTaskCount::projectId, ProjectTaskCount::taskCount));
+    }
 }
\ No newline at end of file
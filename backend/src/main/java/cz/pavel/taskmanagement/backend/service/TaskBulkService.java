@@ -0,0 +1,354 @@
+package cz.pavel.taskmanagement.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cz.pavel.taskmanagement.backend.dto.task.TaskBulkErrorDTO;
+import cz.pavel.taskmanagement.backend.dto.project.ProjectTaskCount;
+import cz.pavel.taskmanagement.backend.dto.task.TaskBulkResultDTO;
+import cz.pavel.taskmanagement.backend.dto.task.TaskBulkUpdateDTO;
+import cz.pavel.taskmanagement.backend.dto.task.TaskBulkUpdateResultDTO;
+import cz.pavel.taskmanagement.backend.dto.task.TaskChangeSetDTO;
+import cz.pavel.taskmanagement.backend.dto.task.TaskCreateDTO;
+import cz.pavel.taskmanagement.backend.dto.task.TaskSearchCriteria;
+import cz.pavel.taskmanagement.backend.entity.Project;
+import cz.pavel.taskmanagement.backend.entity.Task;
+import cz.pavel.taskmanagement.backend.entity.User;
+import cz.pavel.taskmanagement.backend.event.TaskChangedEvent;
+import cz.pavel.taskmanagement.backend.event.TasksBulkUpdatedEvent;
+import cz.pavel.taskmanagement.backend.exception.InvalidRequestException;
+import cz.pavel.taskmanagement.backend.exception.ResourceNotFoundException;
+import cz.pavel.taskmanagement.backend.repository.ProjectRepository;
+import cz.pavel.taskmanagement.backend.repository.TaskIdRange;
+import cz.pavel.taskmanagement.backend.repository.TaskRepository;
+import cz.pavel.taskmanagement.backend.repository.TaskSpecifications;
+import cz.pavel.taskmanagement.backend.repository.UserRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates and updates tasks in bulk.
+ * <p>
+ * Creation reads a JSON array or an NDJSON stream incrementally and processes it in batches,
+ * each in its own short transaction: projects and assignees are resolved with one query per
+ * batch and the inserts go out as JDBC batches (tasks use a pooled sequence, see {@link Task}).
+ * Invalid items are reported by their position in the input and do not stop the import.
+ * <p>
+ * Updates are set-based: one {@code UPDATE ... WHERE} per chunk of the selection, never loading
+ * the tasks themselves. Large selections are split into id windows so no single statement
+ * holds locks on the whole table.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskBulkService {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int MAX_IDS_PER_STATEMENT = 1000;
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${tasker.tasks.bulk-batch-size:500}")
+    private int batchSize;
+
+    @Value("${tasker.tasks.bulk-update-chunk:50000}")
+    private long updateChunkSize;
+
+    @Value("${tasker.projects.denormalized-task-count:false}")
+    private boolean denormalizedTaskCount;
+
+    private record BulkItem(int index, TaskCreateDTO dto, String error) {
+    }
+
+    private interface BulkSource {
+        BulkItem next() throws IOException;
+    }
+
+    public TaskBulkResultDTO importTasks(InputStream input, boolean ndjson) throws IOException {
+        log.info("Bulk creating tasks from {}", ndjson ? "NDJSON stream" : "JSON array");
+        long started = System.currentTimeMillis();
+
+        TaskBulkResultDTO result = new TaskBulkResultDTO();
+        BulkSource source = ndjson ? ndjsonSource(input) : arraySource(input);
+        List<BulkItem> batch = new ArrayList<>(batchSize);
+
+        BulkItem item;
+        while ((item = source.next()) != null) {
+            result.setReceived(result.getReceived() + 1);
+            if (item.error() != null) {
+                fail(result, item.index(), item.error());
+                continue;
+            }
+            batch.add(item);
+            if (batch.size() == batchSize) {
+                processBatch(batch, result);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            processBatch(batch, result);
+        }
+
+        log.info("Bulk created {} of {} tasks in {} ms", result.getCreated(), result.getReceived(),
+                System.currentTimeMillis() - started);
+        return result;
+    }
+
+    public TaskBulkUpdateResultDTO updateTasks(TaskBulkUpdateDTO updateDTO) {
+        TaskChangeSetDTO changes = updateDTO.getChanges();
+        if (changes.isEmpty()) {
+            throw new InvalidRequestException("Change set is empty");
+        }
+        if (changes.isUnassign() && changes.getAssigneeId() != null) {
+            throw new InvalidRequestException("Cannot assign and unassign at the same time");
+        }
+        if (changes.getAssigneeId() != null && !userRepository.existsById(changes.getAssigneeId())) {
+            throw new ResourceNotFoundException("User", changes.getAssigneeId());
+        }
+        if (changes.getProjectId() != null && !projectRepository.existsActiveById(changes.getProjectId())) {
+            throw new ResourceNotFoundException("Project", changes.getProjectId());
+        }
+
+        List<Long> ids = updateDTO.getIds();
+        TaskSearchCriteria filter = updateDTO.getFilter();
+        boolean hasIds = ids != null && !ids.isEmpty();
+        if (!hasIds && !hasCriteria(filter)) {
+            throw new InvalidRequestException("Select tasks by ids or by at least one filter criterion");
+        }
+        if (filter != null && filter.getDueFrom() != null && filter.getDueTo() != null
+                && filter.getDueFrom().isAfter(filter.getDueTo())) {
+            throw new InvalidRequestException("dueFrom must not be after dueTo");
+        }
+
+        log.info("Bulk updating tasks selected by {}", hasIds ? ids.size() + " ids" : "filter");
+        long started = System.currentTimeMillis();
+
+        Specification<Task> selector = filter != null ? TaskSpecifications.matching(filter) : TaskSpecifications.all();
+        TaskBulkUpdateResultDTO result = new TaskBulkUpdateResultDTO();
+
+        if (hasIds) {
+            List<Long> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+            for (int from = 0; from < distinct.size(); from += MAX_IDS_PER_STATEMENT) {
+                List<Long> chunk = distinct.subList(from, Math.min(from + MAX_IDS_PER_STATEMENT, distinct.size()));
+                updateChunk(selector.and(TaskSpecifications.idIn(chunk)), changes, result);
+            }
+        } else {
+            TaskIdRange range = taskRepository.findIdRange(selector).orElse(null);
+            if (range != null) {
+                for (long after = range.minId() - 1; after < range.maxId(); after += updateChunkSize) {
+                    long upTo = Math.min(after + updateChunkSize, range.maxId());
+                    updateChunk(selector.and(TaskSpecifications.idWindow(after, upTo)), changes, result);
+                }
+            }
+        }
+
+        log.info("Bulk updated {} tasks with {} statements in {} ms", result.getAffected(), result.getStatements(),
+                System.currentTimeMillis() - started);
+        return result;
+    }
+
+    private void updateChunk(Specification<Task> selector, TaskChangeSetDTO changes, TaskBulkUpdateResultDTO result) {
+        Integer affected = transactionTemplate.execute(status -> {
+            List<ProjectTaskCount> moved = denormalizedTaskCount && changes.getProjectId() != null
+                    ? taskRepository.countMatchingByProject(selector)
+                    : List.of();
+            // Set-based updates bypass the entities, tell the due-date scheduler which tasks to reload
+            List<Long> rescheduled = changes.getStatus() != null || changes.getDueDate() != null
+                    ? taskRepository.findIdsMatching(selector)
+                    : List.of();
+            int updated = taskRepository.updateMatching(selector, changes);
+            if (!rescheduled.isEmpty()) {
+                eventPublisher.publishEvent(new TasksBulkUpdatedEvent(rescheduled));
+            }
+            int arrived = 0;
+            for (ProjectTaskCount count : moved) {
+                if (!count.projectId().equals(changes.getProjectId())) {
+                    projectRepository.adjustTaskCount(count.projectId(), -count.taskCount().intValue());
+                    arrived += count.taskCount().intValue();
+                }
+            }
+            if (arrived > 0) {
+                projectRepository.adjustTaskCount(changes.getProjectId(), arrived);
+            }
+            return updated;
+        });
+        result.setAffected(result.getAffected() + Objects.requireNonNull(affected));
+        result.setStatements(result.getStatements() + 1);
+    }
+
+    private static boolean hasCriteria(TaskSearchCriteria filter) {
+        return filter != null && (filter.getProjectId() != null
+                || filter.getAssigneeId() != null
+                || (filter.getStatus() != null && !filter.getStatus().isEmpty())
+                || (filter.getPriority() != null && !filter.getPriority().isEmpty())
+                || filter.getDueFrom() != null
+                || filter.getDueTo() != null
+                || filter.getUpdatedSince() != null);
+    }
+
+    private void processBatch(List<BulkItem> batch, TaskBulkResultDTO result) {
+        List<BulkItem> valid = new ArrayList<>(batch.size());
+        for (BulkItem item : batch) {
+            Set<ConstraintViolation<TaskCreateDTO>> violations = validator.validate(item.dto());
+            if (violations.isEmpty()) {
+                valid.add(item);
+            } else {
+                fail(result, item.index(), violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<TaskBulkErrorDTO> itemErrors = transactionTemplate.execute(status -> insertBatch(valid));
+            int failedInBatch = 0;
+            for (TaskBulkErrorDTO error : Objects.requireNonNull(itemErrors)) {
+                fail(result, error.getIndex(), error.getMessage());
+                failedInBatch++;
+            }
+            result.setCreated(result.getCreated() + valid.size() - failedInBatch);
+        } catch (RuntimeException e) {
+            log.warn("Bulk batch starting at item {} failed: {}", valid.getFirst().index(), e.getMessage());
+            for (BulkItem item : valid) {
+                fail(result, item.index(), "Batch rejected by database: " + e.getMessage());
+            }
+        }
+    }
+
+    private List<TaskBulkErrorDTO> insertBatch(List<BulkItem> items) {
+        Map<Long, Project> projects = projectRepository.findAllById(items.stream()
+                        .map(item -> item.dto().getProjectId())
+                        .collect(Collectors.toSet()))
+                .stream()
+                .filter(project -> !project.isDeleted())
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+
+        Map<Long, User> assignees = userRepository.findAllById(items.stream()
+                        .map(item -> item.dto().getAssigneeId())
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<TaskBulkErrorDTO> errors = new ArrayList<>();
+        List<Task> tasks = new ArrayList<>(items.size());
+        Map<Long, Integer> createdPerProject = new HashMap<>();
+
+        for (BulkItem item : items) {
+            TaskCreateDTO dto = item.dto();
+            Project project = projects.get(dto.getProjectId());
+            if (project == null) {
+                errors.add(new TaskBulkErrorDTO(item.index(), "Project with id " + dto.getProjectId() + " not found"));
+                continue;
+            }
+            User assignee = null;
+            if (dto.getAssigneeId() != null) {
+                assignee = assignees.get(dto.getAssigneeId());
+                if (assignee == null) {
+                    errors.add(new TaskBulkErrorDTO(item.index(), "User with id " + dto.getAssigneeId() + " not found"));
+                    continue;
+                }
+            }
+
+            Task task = new Task();
+            task.setTitle(dto.getTitle());
+            task.setDescription(dto.getDescription());
+            task.setStatus(dto.getStatus());
+            task.setPriority(dto.getPriority());
+            task.setDueDate(dto.getDueDate());
+            task.setProject(project);
+            task.setAssignee(assignee);
+            tasks.add(task);
+            createdPerProject.merge(project.getId(), 1, Integer::sum);
+        }
+
+        taskRepository.saveAll(tasks);
+        taskRepository.flush();
+
+        if (denormalizedTaskCount) {
+            createdPerProject.forEach(projectRepository::adjustTaskCount);
+        }
+        tasks.forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.saved(task)));
+        return errors;
+    }
+
+    private static void fail(TaskBulkResultDTO result, int index, String message) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add(new TaskBulkErrorDTO(index, message));
+        }
+    }
+
+    private BulkSource ndjsonSource(InputStream input) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        int[] index = {0};
+        return () -> {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            int current = index[0]++;
+            try {
+                return new BulkItem(current, objectMapper.readValue(line, TaskCreateDTO.class), null);
+            } catch (JsonProcessingException e) {
+                return new BulkItem(current, null, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        };
+    }
+
+    private BulkSource arraySource(InputStream input) throws IOException {
+        MappingIterator<TaskCreateDTO> iterator = objectMapper.readerFor(TaskCreateDTO.class).readValues(input);
+        int[] index = {0};
+        boolean[] broken = {false};
+        return () -> {
+            if (broken[0]) {
+                return null;
+            }
+            try {
+                if (!iterator.hasNextValue()) {
+                    return null;
+                }
+                return new BulkItem(index[0]++, iterator.nextValue(), null);
+            } catch (JsonProcessingException e) {
+                // A malformed array element cannot be skipped reliably, stop reading here
+                broken[0] = true;
+                return new BulkItem(index[0]++, null, "Malformed JSON, remaining input ignored: " + e.getOriginalMessage());
+            }
+        };
+    }
+}
@@ -0,0 +1,136 @@
+package cz.pavel.taskmanagement.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cz.pavel.taskmanagement.backend.dto.task.TaskResponseDTO;
+import cz.pavel.taskmanagement.backend.dto.task.TaskSummary;
+import cz.pavel.taskmanagement.backend.exception.InvalidRequestException;
+import cz.pavel.taskmanagement.backend.exception.ResourceNotFoundException;
+import cz.pavel.taskmanagement.backend.repository.ProjectRepository;
+import cz.pavel.taskmanagement.backend.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * Streams tasks straight from a database cursor into the response body.
+ * Rows are read as projections and written one by one, so memory use does
+ * not depend on the number of exported tasks.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class TaskExportService {
+
+    private static final int FLUSH_EVERY = 1000;
+    private static final String CSV_HEADER =
+            "id,title,description,status,priority,dueDate,projectId,projectName,assigneeId,assigneeUsername,createdAt,updatedAt";
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final ObjectMapper objectMapper;
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format fromParam(String param) {
+            return Arrays.stream(values())
+                    .filter(format -> format.extension.equalsIgnoreCase(param))
+                    .findFirst()
+                    .orElseThrow(() -> new InvalidRequestException("Unsupported export format: " + param));
+        }
+    }
+
+    public void checkProjectExists(Long projectId) {
+        if (projectId != null && !projectRepository.existsActiveById(projectId)) {
+            throw new ResourceNotFoundException("Project", projectId);
+        }
+    }
+
+    public long exportTasks(Format format, Long projectId, OutputStream outputStream) throws IOException {
+        log.info("Exporting tasks as {} for project id: {}", format, projectId);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long count = 0;
+        try (Stream<TaskSummary> rows = projectId != null
+                ? taskRepository.streamSummariesByProjectId(projectId)
+                : taskRepository.streamAllSummaries()) {
+            for (TaskSummary row : (Iterable<TaskSummary>) rows::iterator) {
+                if (format == Format.CSV) {
+                    writeCsv(writer, row);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(new TaskResponseDTO(row)));
+                    writer.write('\n');
+                }
+
+                if (++count % FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+            }
+        }
+
+        writer.flush();
+        log.info("Exported {} tasks", count);
+        return count;
+    }
+
+    private void writeCsv(Writer writer, TaskSummary row) throws IOException {
+        writer.write(String.join(",",
+                csv(row.id()),
+                csv(row.title()),
+                csv(row.description()),
+                csv(row.status()),
+                csv(row.priority()),
+                csv(row.dueDate()),
+                csv(row.projectId()),
+                csv(row.projectName()),
+                csv(row.assigneeId()),
+                csv(row.assigneeUsername()),
+                csv(row.createdAt()),
+                csv(row.updatedAt())));
+        writer.write('\n');
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
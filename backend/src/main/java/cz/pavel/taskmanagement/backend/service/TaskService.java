@@ -1,22 +1,42 @@
 package cz.pavel.taskmanagement.backend.service;
 
+import cz.pavel.taskmanagement.backend.coalesce.Coalesced;
+import cz.pavel.taskmanagement.backend.dto.project.BoardColumnDTO;
+import cz.pavel.taskmanagement.backend.dto.project.ProjectBoardDTO;
 import cz.pavel.taskmanagement.backend.dto.task.TaskCreateDTO;
+import cz.pavel.taskmanagement.backend.dto.task.TaskPageDTO;
 import cz.pavel.taskmanagement.backend.dto.task.TaskResponseDTO;
+import cz.pavel.taskmanagement.backend.dto.task.TaskSearchCriteria;
+import cz.pavel.taskmanagement.backend.dto.task.TaskStatusCount;
+import cz.pavel.taskmanagement.backend.dto.task.TaskSummary;
 import cz.pavel.taskmanagement.backend.dto.task.TaskUpdateDTO;
 import cz.pavel.taskmanagement.backend.entity.Project;
 import cz.pavel.taskmanagement.backend.entity.Task;
 import cz.pavel.taskmanagement.backend.entity.TaskStatus;
 import cz.pavel.taskmanagement.backend.entity.User;
+import cz.pavel.taskmanagement.backend.event.TaskChangedEvent;
+import cz.pavel.taskmanagement.backend.exception.InvalidRequestException;
 import cz.pavel.taskmanagement.backend.exception.ResourceNotFoundException;
 import cz.pavel.taskmanagement.backend.repository.ProjectRepository;
+import cz.pavel.taskmanagement.backend.repository.TaskCursor;
 import cz.pavel.taskmanagement.backend.repository.TaskRepository;
+import cz.pavel.taskmanagement.backend.repository.TaskSort;
+import cz.pavel.taskmanagement.backend.repository.TaskSpecifications;
 import cz.pavel.taskmanagement.backend.repository.UserRepository;
+import cz.pavel.taskmanagement.backend.search.TaskTextIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,56 +45,243 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class TaskService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int DEFAULT_FULLTEXT_LIMIT = 20;
+
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final TaskTextIndex taskTextIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * When enabled, reads use the fetch plan variants of {@link TaskRepository} so mapping
+     * to {@link TaskResponseDTO} does not trigger lazy loads of project and assignee.
+     */
+    @Value("${tasker.jpa.fetch-plans:true}")
+    private boolean fetchPlans;
+
+    /**
+     * When enabled, list methods read {@link TaskSummary} projections instead of managed entities.
+     */
+    @Value("${tasker.jpa.list-projections:true}")
+    private boolean listProjections;
+
+    @Value("${tasker.projects.denormalized-task-count:false}")
+    private boolean denormalizedTaskCount;
 
+    @Coalesced
     public List<TaskResponseDTO> getAllTasks() {
         log.info("Fetching all tasks");
-        return taskRepository.findAll().stream()
+        if (listProjections) {
+            return toResponseDTOs(taskRepository.findAllSummaries());
+        }
+        List<Task> tasks = fetchPlans ? taskRepository.findAllWithRelations() : taskRepository.findAll();
+        return tasks.stream()
+                .filter(TaskService::inActiveProject)
                 .map(TaskResponseDTO::new)
-                .collect(Collectors.toList());
+                .toList();
     }
 
     public TaskResponseDTO getTaskById(Long id) {
         log.info("Fetching task with id: {}", id);
-        Task task = taskRepository.findById(id)
+        Task task = (fetchPlans ? taskRepository.findWithRelationsById(id) : taskRepository.findById(id))
+                .filter(TaskService::inActiveProject)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", id));
         return new TaskResponseDTO(task);
     }
 
+    @Coalesced
     public List<TaskResponseDTO> getTasksByProject(Long projectId) {
         log.info("Fetching tasks for project id: {}", projectId);
-        Project project = projectRepository.findById(projectId)
+        if (listProjections) {
+            if (!projectRepository.existsActiveById(projectId)) {
+                throw new ResourceNotFoundException("Project", projectId);
+            }
+            return toResponseDTOs(taskRepository.findSummariesByProjectId(projectId));
+        }
+        Project project = projectRepository.findActiveById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", projectId));
 
-        return taskRepository.findByProject(project).stream()
+        List<Task> tasks = fetchPlans
+                ? taskRepository.findWithRelationsByProject(project)
+                : taskRepository.findByProject(project);
+        return tasks.stream()
                 .map(TaskResponseDTO::new)
-                .collect(Collectors.toList());
+                .toList();
     }
 
+    @Coalesced
     public List<TaskResponseDTO> getTasksByAssignee(Long assigneeId) {
         log.info("Fetching tasks for assignee id: {}", assigneeId);
+        if (listProjections) {
+            if (!userRepository.existsById(assigneeId)) {
+                throw new ResourceNotFoundException("User", assigneeId);
+            }
+            return toResponseDTOs(taskRepository.findSummariesByAssigneeId(assigneeId));
+        }
         User assignee = userRepository.findById(assigneeId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", assigneeId));
 
-        return taskRepository.findByAssignee(assignee).stream()
+        List<Task> tasks = fetchPlans
+                ? taskRepository.findWithRelationsByAssignee(assignee)
+                : taskRepository.findByAssignee(assignee);
+        return tasks.stream()
+                .filter(TaskService::inActiveProject)
                 .map(TaskResponseDTO::new)
-                .collect(Collectors.toList());
+                .toList();
     }
 
+    @Coalesced
     public List<TaskResponseDTO> getTasksByStatus(TaskStatus status) {
         log.info("Fetching tasks with status: {}", status);
-        return taskRepository.findByStatus(status).stream()
+        if (listProjections) {
+            return toResponseDTOs(taskRepository.findSummariesByStatus(status));
+        }
+        List<Task> tasks = fetchPlans
+                ? taskRepository.findWithRelationsByStatus(status)
+                : taskRepository.findByStatus(status);
+        return tasks.stream()
+                .filter(TaskService::inActiveProject)
+                .map(TaskResponseDTO::new)
+                .toList();
+    }
+
+    public TaskPageDTO getTasksPage(String sort, String cursor, Integer limit) {
+        log.info("Fetching task page sorted by {}", sort);
+        return findPage(TaskSpecifications.all(), sort, cursor, limit);
+    }
+
+    public TaskPageDTO getTasksByProjectPage(Long projectId, String sort, String cursor, Integer limit) {
+        log.info("Fetching task page for project id: {}", projectId);
+        if (!projectRepository.existsActiveById(projectId)) {
+            throw new ResourceNotFoundException("Project", projectId);
+        }
+        return findPage(TaskSpecifications.inProject(projectId), sort, cursor, limit);
+    }
+
+    public TaskPageDTO getTasksByAssigneePage(Long assigneeId, String sort, String cursor, Integer limit) {
+        log.info("Fetching task page for assignee id: {}", assigneeId);
+        if (!userRepository.existsById(assigneeId)) {
+            throw new ResourceNotFoundException("User", assigneeId);
+        }
+        return findPage(TaskSpecifications.assignedTo(assigneeId), sort, cursor, limit);
+    }
+
+    public TaskPageDTO getTasksByStatusPage(TaskStatus status, String sort, String cursor, Integer limit) {
+        log.info("Fetching task page with status: {}", status);
+        return findPage(TaskSpecifications.hasStatus(status), sort, cursor, limit);
+    }
+
+    public TaskPageDTO searchTasks(TaskSearchCriteria criteria, String sort, String cursor, Integer limit) {
+        log.info("Searching tasks: {}", criteria);
+        if (criteria.getDueFrom() != null && criteria.getDueTo() != null
+                && criteria.getDueFrom().isAfter(criteria.getDueTo())) {
+            throw new InvalidRequestException("dueFrom must not be after dueTo");
+        }
+        return findPage(TaskSpecifications.matching(criteria), sort, cursor, limit);
+    }
+
+    /**
+     * Kanban board: first page of every status column plus per-column totals.
+     * Each column's nextCursor continues through {@link #getBoardColumnPage}.
+     */
+    @Coalesced
+    public ProjectBoardDTO getProjectBoard(Long projectId, String sort, Integer perColumn) {
+        log.info("Fetching board for project id: {}", projectId);
+        if (!projectRepository.existsActiveById(projectId)) {
+            throw new ResourceNotFoundException("Project", projectId);
+        }
+
+        Map<TaskStatus, Long> totals = taskRepository.countByProjectIdGroupByStatus(projectId).stream()
+                .collect(Collectors.toMap(TaskStatusCount::status, TaskStatusCount::taskCount));
+
+        List<BoardColumnDTO> columns = new ArrayList<>();
+        for (TaskStatus status : TaskStatus.values()) {
+            long total = totals.getOrDefault(status, 0L);
+            TaskPageDTO page = total > 0
+                    ? findPage(boardColumn(projectId, status), sort, null, perColumn)
+                    : new TaskPageDTO(List.of(), null, false);
+            columns.add(new BoardColumnDTO(status, total, page.getItems(), page.getNextCursor(), page.isHasMore()));
+        }
+
+        return new ProjectBoardDTO(projectId, List.copyOf(columns));
+    }
+
+    public TaskPageDTO getBoardColumnPage(Long projectId, TaskStatus status, String sort, String cursor, Integer limit) {
+        log.info("Fetching board column {} for project id: {}", status, projectId);
+        if (!projectRepository.existsActiveById(projectId)) {
+            throw new ResourceNotFoundException("Project", projectId);
+        }
+        return findPage(boardColumn(projectId, status), sort, cursor, limit);
+    }
+
+    private static Specification<Task> boardColumn(Long projectId, TaskStatus status) {
+        return TaskSpecifications.inProject(projectId).and(TaskSpecifications.hasStatus(status));
+    }
+
+    public List<TaskResponseDTO> fullTextSearch(String query, Integer limit) {
+        log.info("Full-text search for: {}", query);
+        int size = limit == null ? DEFAULT_FULLTEXT_LIMIT : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        List<TaskTextIndex.Hit> hits = taskTextIndex.search(query, size);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = hits.stream().map(TaskTextIndex.Hit::taskId).toList();
+        Map<Long, TaskSummary> rows = taskRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(TaskSummary::id, Function.identity()));
+
+        return ids.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
                 .map(TaskResponseDTO::new)
                 .collect(Collectors.toList());
     }
 
+    private TaskPageDTO findPage(Specification<Task> filter, String sortParam, String cursorParam, Integer limit) {
+        TaskSort sort;
+        TaskCursor after;
+        try {
+            sort = TaskSort.fromParam(sortParam);
+            after = cursorParam != null && !cursorParam.isBlank()
+                    ? TaskCursor.decode(cursorParam, sort)
+                    : null;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException(e.getMessage(), e);
+        }
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        // One extra row tells us whether another page exists without a COUNT query
+        List<TaskSummary> rows = taskRepository.findSlice(filter, sort, after, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        String nextCursor = hasMore ? sort.cursorOf(rows.getLast()).encode() : null;
+        return new TaskPageDTO(toResponseDTOs(rows), nextCursor, hasMore);
+    }
+
+    // Tasks of a project pending deletion read as missing until the purge removes them
+    private static boolean inActiveProject(Task task) {
+        return !task.getProject().isDeleted();
+    }
+
+    private List<TaskResponseDTO> toResponseDTOs(List<TaskSummary> rows) {
+        return rows.stream()
+                .map(TaskResponseDTO::new)
+                .toList();
+    }
+
     @Transactional
     public TaskResponseDTO createTask(TaskCreateDTO createDTO) {
         log.info("Creating new task: {}", createDTO.getTitle());
 
         Project project = projectRepository.findById(createDTO.getProjectId())
+                .filter(p -> !p.isDeleted())
                 .orElseThrow(() -> new ResourceNotFoundException("Project", createDTO.getProjectId()));
 
         Task task = new Task();
@@ -92,6 +299,10 @@ public class TaskService {
         }
 
         Task savedTask = taskRepository.save(task);
+        if (denormalizedTaskCount) {
+            projectRepository.adjustTaskCount(project.getId(), 1);
+        }
+        eventPublisher.publishEvent(TaskChangedEvent.saved(savedTask));
         log.info("Task created successfully with id: {}", savedTask.getId());
 
         return new TaskResponseDTO(savedTask);
@@ -102,6 +313,7 @@ public class TaskService {
         log.info("Updating task with id: {}", id);
 
         Task task = taskRepository.findById(id)
+                .filter(TaskService::inActiveProject)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", id));
 
         if (updateDTO.getTitle() != null) {
@@ -133,6 +345,7 @@ public class TaskService {
         }
 
         Task updatedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.saved(updatedTask));
         log.info("Task updated successfully with id: {}", updatedTask.getId());
 
         return new TaskResponseDTO(updatedTask);
@@ -146,7 +359,12 @@ public class TaskService {
             throw new ResourceNotFoundException("Task", id);
         }
 
+        if (denormalizedTaskCount) {
+            taskRepository.findProjectIdById(id)
+                    .ifPresent(projectId -> projectRepository.adjustTaskCount(projectId, -1));
+        }
         taskRepository.deleteById(id);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(id));
         log.info("Task deleted successfully with id: {}", id);
     }
 }
\ No newline at end of file
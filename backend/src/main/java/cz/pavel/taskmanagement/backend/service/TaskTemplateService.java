@@ -0,0 +1,107 @@
+package cz.pavel.taskmanagement.backend.service;
+
+import cz.pavel.taskmanagement.backend.dto.template.TaskTemplateCreateDTO;
+import cz.pavel.taskmanagement.backend.dto.template.TaskTemplateResponseDTO;
+import cz.pavel.taskmanagement.backend.entity.Project;
+import cz.pavel.taskmanagement.backend.entity.TaskTemplate;
+import cz.pavel.taskmanagement.backend.entity.User;
+import cz.pavel.taskmanagement.backend.event.TaskTemplateChangedEvent;
+import cz.pavel.taskmanagement.backend.exception.InvalidRequestException;
+import cz.pavel.taskmanagement.backend.exception.ResourceNotFoundException;
+import cz.pavel.taskmanagement.backend.repository.ProjectRepository;
+import cz.pavel.taskmanagement.backend.repository.TaskTemplateRepository;
+import cz.pavel.taskmanagement.backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class TaskTemplateService {
+
+    private final TaskTemplateRepository taskTemplateRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public List<TaskTemplateResponseDTO> getTemplatesByProject(Long projectId) {
+        log.info("Fetching task templates for project id: {}", projectId);
+        if (!projectRepository.existsActiveById(projectId)) {
+            throw new ResourceNotFoundException("Project", projectId);
+        }
+        return taskTemplateRepository.findByProjectIdOrderById(projectId)
+                .stream()
+                .map(TaskTemplateResponseDTO::new)
+                .collect(Collectors.toList());
+    }
+
+    public TaskTemplateResponseDTO getTemplateById(Long id) {
+        log.info("Fetching task template with id: {}", id);
+        TaskTemplate template = taskTemplateRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task template", id));
+        return new TaskTemplateResponseDTO(template);
+    }
+
+    /**
+     * Occurrences before today are skipped, the first task is created for the first occurrence from today on.
+     */
+    @Transactional
+    public TaskTemplateResponseDTO createTemplate(TaskTemplateCreateDTO createDTO) {
+        log.info("Creating new task template: {}", createDTO.getTitle());
+
+        if (createDTO.getEndDate() != null && createDTO.getEndDate().isBefore(createDTO.getStartDate())) {
+            throw new InvalidRequestException("endDate must not be before startDate");
+        }
+
+        Project project = projectRepository.findActiveById(createDTO.getProjectId())
+                .orElseThrow(() -> new ResourceNotFoundException("Project", createDTO.getProjectId()));
+
+        TaskTemplate template = new TaskTemplate();
+        template.setTitle(createDTO.getTitle());
+        template.setDescription(createDTO.getDescription());
+        template.setPriority(createDTO.getPriority());
+        template.setProject(project);
+        template.setRecurrence(createDTO.getRecurrence());
+        template.setInterval(createDTO.getInterval());
+        template.setStartDate(createDTO.getStartDate());
+        template.setEndDate(createDTO.getEndDate());
+
+        if (createDTO.getAssigneeId() != null) {
+            User assignee = userRepository.findById(createDTO.getAssigneeId())
+                    .orElseThrow(() -> new ResourceNotFoundException("User", createDTO.getAssigneeId()));
+            template.setAssignee(assignee);
+        }
+
+        long first = template.getRecurrence().firstOnOrAfter(template.getStartDate(), template.getInterval(), LocalDate.now());
+        LocalDate next = template.getRecurrence().occurrence(template.getStartDate(), template.getInterval(), first);
+        template.setOccurrences(first);
+        template.setNextOccurrence(template.getEndDate() == null || !next.isAfter(template.getEndDate()) ? next : null);
+
+        TaskTemplate savedTemplate = taskTemplateRepository.save(template);
+        eventPublisher.publishEvent(new TaskTemplateChangedEvent(savedTemplate.getId(), savedTemplate.getNextOccurrence()));
+        log.info("Task template created successfully with id: {}", savedTemplate.getId());
+
+        return new TaskTemplateResponseDTO(savedTemplate);
+    }
+
+    @Transactional
+    public void deleteTemplate(Long id) {
+        log.info("Deleting task template with id: {}", id);
+
+        if (!taskTemplateRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Task template", id);
+        }
+
+        taskTemplateRepository.deleteById(id);
+        eventPublisher.publishEvent(new TaskTemplateChangedEvent(id, null));
+        log.info("Task template deleted successfully with id: {}", id);
+    }
+}
@@ -0,0 +1,113 @@
+package cz.pavel.taskmanagement.backend.service;
+
+import cz.pavel.taskmanagement.backend.dto.job.JobResponseDTO;
+import cz.pavel.taskmanagement.backend.dto.task.TaskChangeSetDTO;
+import cz.pavel.taskmanagement.backend.dto.user.UserOffboardDTO;
+import cz.pavel.taskmanagement.backend.entity.Task;
+import cz.pavel.taskmanagement.backend.entity.User;
+import cz.pavel.taskmanagement.backend.event.UserTokenVersionChangedEvent;
+import cz.pavel.taskmanagement.backend.exception.InvalidRequestException;
+import cz.pavel.taskmanagement.backend.exception.ResourceNotFoundException;
+import cz.pavel.taskmanagement.backend.job.Job;
+import cz.pavel.taskmanagement.backend.job.JobRegistry;
+import cz.pavel.taskmanagement.backend.repository.ProjectRepository;
+import cz.pavel.taskmanagement.backend.repository.TaskRepository;
+import cz.pavel.taskmanagement.backend.repository.TaskSpecifications;
+import cz.pavel.taskmanagement.backend.repository.TaskTemplateRepository;
+import cz.pavel.taskmanagement.backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Removes a user after handing their work over to a successor.
+ * <p>
+ * Tasks are reassigned (or unassigned) with set-based UPDATEs over batches of
+ * {@code tasker.users.offboard-chunk-size} ids, each in its own short transaction, so the
+ * tasks table is never locked for the whole run. Projects and task templates are transferred
+ * and the user row is deleted in one final transaction that also catches tasks assigned in
+ * the meantime.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserOffboardingService {
+
+    public static final String JOB_TYPE = "user-offboarding";
+
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskTemplateRepository taskTemplateRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JobRegistry jobRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${tasker.users.offboard-chunk-size:5000}")
+    private int chunkSize;
+
+    public JobResponseDTO offboardUser(Long id, UserOffboardDTO offboardDTO) {
+        log.info("Offboarding user with id: {}", id);
+
+        Long successorId = offboardDTO.getSuccessorId();
+        if (id.equals(successorId)) {
+            throw new InvalidRequestException("User cannot be their own successor");
+        }
+        if (!userRepository.existsById(id)) {
+            throw new ResourceNotFoundException("User", id);
+        }
+        if (!userRepository.existsById(successorId)) {
+            throw new ResourceNotFoundException("User", successorId);
+        }
+
+        Job job = jobRegistry.create(JOB_TYPE, id);
+        jobRegistry.run(job, j -> offboard(j, id, successorId, offboardDTO.isUnassignTasks()));
+        return new JobResponseDTO(job);
+    }
+
+    private void offboard(Job job, Long userId, Long successorId, boolean unassignTasks) {
+        long started = System.currentTimeMillis();
+        job.start(taskRepository.countByAssigneeId(userId));
+
+        TaskChangeSetDTO changes = new TaskChangeSetDTO();
+        if (unassignTasks) {
+            changes.setUnassign(true);
+        } else {
+            changes.setAssigneeId(successorId);
+        }
+
+        Specification<Task> assigned = TaskSpecifications.assignedTo(userId);
+        while (true) {
+            Integer updated = transactionTemplate.execute(status -> {
+                List<Long> ids = taskRepository.findIdsByAssigneeId(userId, PageRequest.of(0, chunkSize));
+                return ids.isEmpty() ? 0 : taskRepository.updateMatching(assigned.and(TaskSpecifications.idIn(ids)), changes);
+            });
+            if (updated == null || updated == 0) {
+                break;
+            }
+            job.progress(updated);
+        }
+
+        Integer projects = transactionTemplate.execute(status -> {
+            job.progress(taskRepository.updateMatching(assigned, changes));
+            User successor = userRepository.getReferenceById(successorId);
+            taskTemplateRepository.reassign(userId, unassignTasks ? null : successor);
+            int transferred = projectRepository.transferOwnership(userId, successor, LocalDateTime.now());
+            userRepository.deleteById(userId);
+            eventPublisher.publishEvent(UserTokenVersionChangedEvent.deleted(userId));
+            return transferred;
+        });
+
+        log.info("User {} offboarded: {} tasks {}, {} projects transferred to user {} in {} ms", userId,
+                job.getProcessed().get(), unassignTasks ? "unassigned" : "reassigned", projects, successorId,
+                System.currentTimeMillis() - started);
+    }
+}
@@ -5,14 +5,21 @@ import cz.pavel.taskmanagement.backend.dto.user.UserResponseDTO;
 import cz.pavel.taskmanagement.backend.dto.user.UserUpdateDTO;
 import cz.pavel.taskmanagement.backend.entity.Role;
 import cz.pavel.taskmanagement.backend.entity.User;
+import cz.pavel.taskmanagement.backend.event.UserTokenVersionChangedEvent;
 import cz.pavel.taskmanagement.backend.exception.DuplicateResourceException;
+import cz.pavel.taskmanagement.backend.exception.ResourceConflictException;
 import cz.pavel.taskmanagement.backend.exception.ResourceNotFoundException;
+import cz.pavel.taskmanagement.backend.repository.ProjectRepository;
+import cz.pavel.taskmanagement.backend.repository.TaskRepository;
+import cz.pavel.taskmanagement.backend.repository.TaskTemplateRepository;
 import cz.pavel.taskmanagement.backend.repository.UserRepository;
+import cz.pavel.taskmanagement.backend.security.PasswordHashingExecutor;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -20,12 +27,17 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional(readOnly = true)
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
-
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskTemplateRepository taskTemplateRepository;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Transactional(readOnly = true)
     public List<UserResponseDTO> getAllUsers() {
         log.info("Fetching all users");
         return userRepository.findAll()
@@ -34,6 +46,7 @@ public class UserService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public UserResponseDTO getUserById(Long id) {
         log.info("Fetching user with id: {}", id);
         User user = userRepository.findById(id)
@@ -41,7 +54,8 @@ public class UserService {
         return new UserResponseDTO(user);
     }
 
-    @Transactional
+    // Not transactional: the password is hashed before the write transaction starts,
+    // so no connection is held while the request waits for a hashing thread
     public UserResponseDTO createUser(UserCreateDTO createDTO) {
         log.info("Creating new user with username: {}", createDTO.getUsername());
 
@@ -53,59 +67,77 @@ public class UserService {
             throw new DuplicateResourceException("Email already exists: " + createDTO.getEmail());
         }
 
-        User user = new User();
-        user.setUsername(createDTO.getUsername());
-        user.setEmail(createDTO.getEmail());
+        String hashedPassword = passwordHashingExecutor.encode(createDTO.getPassword());
 
-        String hashedPassword = passwordEncoder.encode(createDTO.getPassword());
-        user.setPassword(hashedPassword);
-        user.setFirstName(createDTO.getFirstName());
-        user.setLastName(createDTO.getLastName());
-        user.setRole(createDTO.getRole());
+        return transactionTemplate.execute(status -> {
+            User user = new User();
+            user.setUsername(createDTO.getUsername());
+            user.setEmail(createDTO.getEmail());
+            user.setPassword(hashedPassword);
+            user.setFirstName(createDTO.getFirstName());
+            user.setLastName(createDTO.getLastName());
+            user.setRole(createDTO.getRole());
 
-        User savedUser = userRepository.save(user);
-        log.info("User created successfully with id: {}", savedUser.getId());
+            User savedUser = userRepository.save(user);
+            eventPublisher.publishEvent(new UserTokenVersionChangedEvent(savedUser.getId(), savedUser.getTokenVersion()));
+            log.info("User created successfully with id: {}", savedUser.getId());
 
-        return new UserResponseDTO(savedUser);
+            return new UserResponseDTO(savedUser);
+        });
     }
 
-    @Transactional
+    // Not transactional for the same reason as createUser
     public UserResponseDTO updateUser(Long id, UserUpdateDTO updateDTO) {
         log.info("Updating user with id: {}", id);
 
-        User user = userRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("User", id));
-
-        if (updateDTO.getEmail() != null) {
-            userRepository.findByEmail((updateDTO.getEmail()))
-                    .ifPresent(existingUser -> {
-                        if (!existingUser.getId().equals(id)) {
-                            throw new DuplicateResourceException("Email already exists: " + updateDTO.getEmail());
-                        }
-                    });
-            user.setEmail(updateDTO.getEmail());
-        }
-
-        if (updateDTO.getPassword() != null) {
-            String hashedPassword = passwordEncoder.encode(updateDTO.getPassword());
-            user.setPassword(hashedPassword);
-        }
-
-        if (updateDTO.getFirstName() != null) {
-            user.setFirstName(updateDTO.getFirstName());
-        }
-
-        if (updateDTO.getLastName() != null) {
-            user.setLastName(updateDTO.getLastName());
-        }
-
-        if (updateDTO.getRole() != null) {
-            user.setRole(updateDTO.getRole());
-        }
-
-        User updatedUser = userRepository.save(user);
-        log.info("User updated successfully with id: {}", updatedUser.getId());
-
-        return new UserResponseDTO(updatedUser);
+        String hashedPassword = updateDTO.getPassword() != null
+                ? passwordHashingExecutor.encode(updateDTO.getPassword())
+                : null;
+
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("User", id));
+
+            if (updateDTO.getEmail() != null) {
+                userRepository.findByEmail((updateDTO.getEmail()))
+                        .ifPresent(existingUser -> {
+                            if (!existingUser.getId().equals(id)) {
+                                throw new DuplicateResourceException("Email already exists: " + updateDTO.getEmail());
+                            }
+                        });
+                user.setEmail(updateDTO.getEmail());
+            }
+
+            boolean revokeTokens = false;
+
+            if (hashedPassword != null) {
+                user.setPassword(hashedPassword);
+                revokeTokens = true;
+            }
+
+            if (updateDTO.getFirstName() != null) {
+                user.setFirstName(updateDTO.getFirstName());
+            }
+
+            if (updateDTO.getLastName() != null) {
+                user.setLastName(updateDTO.getLastName());
+            }
+
+            if (updateDTO.getRole() != null && updateDTO.getRole() != user.getRole()) {
+                user.setRole(updateDTO.getRole());
+                revokeTokens = true;
+            }
+
+            // Tokens issued before a password or role change must not keep working
+            if (revokeTokens) {
+                user.setTokenVersion(user.getTokenVersion() + 1);
+                eventPublisher.publishEvent(new UserTokenVersionChangedEvent(id, user.getTokenVersion()));
+            }
+
+            User updatedUser = userRepository.save(user);
+            log.info("User updated successfully with id: {}", updatedUser.getId());
+
+            return new UserResponseDTO(updatedUser);
+        });
     }
 
     @Transactional
@@ -115,8 +147,10 @@ public class UserService {
         if (!userRepository.existsById(id)) {
             throw new ResourceNotFoundException("User", id);
         }
+        checkNoReferences(id);
 
         userRepository.deleteById(id);
+        eventPublisher.publishEvent(UserTokenVersionChangedEvent.deleted(id));
         log.info("User deleted successfully with id: {}", id);
     }
 
@@ -124,11 +158,20 @@ public class UserService {
     public void deleteUserByEmail(String email) {
         log.info("Deleting user with email: {}", email);
 
-        if (!userRepository.existsByEmail(email)) {
-            throw new ResourceNotFoundException("User", email);
-        }
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User", email));
+        checkNoReferences(user.getId());
 
         userRepository.deleteByEmail(email);
+        eventPublisher.publishEvent(UserTokenVersionChangedEvent.deleted(user.getId()));
         log.info("User deleted successfully with email: {}", email);
     }
+
+    // Users with tasks or projects go through UserOffboardingService, a bare delete would violate the foreign keys
+    private void checkNoReferences(Long id) {
+        if (taskRepository.existsByAssigneeId(id) || projectRepository.existsByOwnerId(id)
+                || taskTemplateRepository.existsByAssigneeId(id)) {
+            throw new ResourceConflictException("User with id " + id + " still has tasks or projects, offboard the user instead");
+        }
+    }
 }
@@ -0,0 +1,36 @@
+package cz.pavel.taskmanagement.backend.threads;
+
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Threads for the application's own background executors (jobs, due-date and recurring task
+ * tickers). With {@code spring.threads.virtual.enabled} they are virtual, like the request
+ * threads Tomcat then uses, otherwise named platform daemon threads.
+ * <p>
+ * Password hashing deliberately stays on its bounded platform pool: BCrypt is pure CPU work and
+ * the pool size is what keeps a login burst from starving other requests.
+ */
+@Component
+public class BackgroundThreads {
+
+    private final boolean virtual;
+
+    public BackgroundThreads(Environment environment) {
+        this.virtual = Threading.VIRTUAL.isActive(environment);
+    }
+
+    public ThreadFactory factory(String name) {
+        if (virtual) {
+            return Thread.ofVirtual().name(name).factory();
+        }
+        return Thread.ofPlatform().name(name).daemon(true).factory();
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+}
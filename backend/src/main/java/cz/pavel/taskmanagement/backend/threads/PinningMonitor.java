@@ -0,0 +1,142 @@
+package cz.pavel.taskmanagement.backend.threads;
+
+import cz.pavel.taskmanagement.backend.dto.metrics.VirtualThreadStatsDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that block while pinned to their carrier, typically inside a
+ * {@code synchronized} block or a native frame around a JDBC call. Pinned blocking holds a
+ * carrier thread for the whole wait, so a few such sites can cap request throughput at the
+ * number of cores.
+ * <p>
+ * Listens to the {@code jdk.VirtualThreadPinned} JFR event in-process, only when virtual threads
+ * are enabled. Each call site is logged with its stack once, then only counted; counts per site
+ * are available from the metrics endpoint.
+ */
+@Component
+@Slf4j
+public class PinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_SITES = 100;
+    private static final int LOGGED_FRAMES = 12;
+
+    private final BackgroundThreads backgroundThreads;
+    private final boolean enabled;
+    private final Duration threshold;
+
+    private final LongAdder pinned = new LongAdder();
+    private final AtomicLong longestNanos = new AtomicLong();
+    private final Map<String, LongAdder> sites = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    public PinningMonitor(
+            BackgroundThreads backgroundThreads,
+            @Value("${tasker.threads.pinning-monitor.enabled:true}") boolean enabled,
+            @Value("${tasker.threads.pinning-monitor.threshold-millis:20}") long thresholdMillis) {
+        this.backgroundThreads = backgroundThreads;
+        this.enabled = enabled;
+        this.threshold = Duration.ofMillis(thresholdMillis);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled || !backgroundThreads.isVirtual()) {
+            return;
+        }
+        try {
+            stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            stream.onEvent(PINNED_EVENT, this::onPinned);
+            stream.startAsync();
+            log.info("Watching for virtual threads pinned longer than {} ms", threshold.toMillis());
+        } catch (RuntimeException | LinkageError e) {
+            // JFR may be missing from trimmed runtimes; the application works the same without it
+            log.warn("Virtual thread pinning monitor not available: {}", e.getMessage());
+            stream = null;
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    public VirtualThreadStatsDTO getStats() {
+        Map<String, Long> counts = sites.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+        return new VirtualThreadStatsDTO(
+                backgroundThreads.isVirtual(),
+                stream != null,
+                threshold.toMillis(),
+                pinned.sum(),
+                longestNanos.get() / 1_000_000.0,
+                counts
+        );
+    }
+
+    private void onPinned(RecordedEvent event) {
+        long nanos = event.getDuration().toNanos();
+        pinned.increment();
+        longestNanos.accumulateAndGet(nanos, Math::max);
+
+        List<RecordedFrame> frames = event.getStackTrace() != null
+                ? event.getStackTrace().getFrames()
+                : List.of();
+        String site = callSite(frames);
+
+        // Events are delivered on the stream's own thread, one at a time
+        LongAdder count = sites.get(site);
+        if (count == null) {
+            if (sites.size() >= MAX_SITES) {
+                return;
+            }
+            count = new LongAdder();
+            sites.put(site, count);
+            log.warn("Virtual thread pinned for {} ms at {}:\n{}", nanos / 1_000_000, site, format(event.getStackTrace()));
+        }
+        count.increment();
+    }
+
+    /**
+     * First frame outside the JDK, which is the code that blocked while holding the carrier.
+     */
+    private static String callSite(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return frames.isEmpty() ? "unknown" : frames.getFirst().getMethod().getType().getName();
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(no stack trace)";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,187 @@
+package cz.pavel.taskmanagement.backend.integrationTests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import cz.pavel.taskmanagement.backend.dto.auth.LoginRequest;
+import cz.pavel.taskmanagement.backend.dto.auth.RefreshTokenRequest;
+import cz.pavel.taskmanagement.backend.dto.user.UserUpdateDTO;
+import cz.pavel.taskmanagement.backend.entity.Role;
+import cz.pavel.taskmanagement.backend.entity.User;
+import cz.pavel.taskmanagement.backend.repository.RevokedTokenRepository;
+import cz.pavel.taskmanagement.backend.repository.UserRepository;
+import cz.pavel.taskmanagement.backend.security.JwtClaims;
+import cz.pavel.taskmanagement.backend.security.JwtUtil;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+public class AuthControllerIT extends Testutils {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private User member;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(User.builder()
+                .username("test_admin")
+                .email("test_admin@pavel.cz")
+                .password(passwordEncoder.encode("password_test"))
+                .firstName("Test")
+                .lastName("Admin")
+                .role(Role.ADMIN)
+                .build());
+
+        member = userRepository.save(User.builder()
+                .username("test_member")
+                .email("test_member@pavel.cz")
+                .password(passwordEncoder.encode("password_test"))
+                .firstName("Test")
+                .lastName("Member")
+                .role(Role.USER)
+                .build());
+    }
+
+    @Test
+    void refresh_WithValidToken_ShouldIssueNewTokens() throws Exception {
+        String refreshToken = login("test_member").get("refreshToken").asText();
+
+        refresh(refreshToken)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accessToken").isNotEmpty())
+                .andExpect(jsonPath("$.refreshToken").isNotEmpty())
+                .andExpect(jsonPath("$.user.username").value("test_member"));
+    }
+
+    @Test
+    void refresh_ReusingToken_ShouldReturn401() throws Exception {
+        String refreshToken = login("test_member").get("refreshToken").asText();
+
+        String rotated = refresh(refreshToken)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        refresh(refreshToken)
+                .andExpect(status().isUnauthorized());
+
+        // The token handed out by the first refresh keeps working
+        refresh(objectMapper.readTree(rotated).get("refreshToken").asText())
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void refresh_TokenConsumedElsewhere_ShouldReturn401() throws Exception {
+        String refreshToken = login("test_member").get("refreshToken").asText();
+        JwtClaims claims = jwtUtil.verify(refreshToken);
+
+        // Stored by another instance or a concurrent request, not yet in this instance's denylist
+        revokedTokenRepository.insert(claims.tokenId(),
+                LocalDateTime.ofInstant(claims.expiresAt(), ZoneId.systemDefault()));
+
+        refresh(refreshToken)
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void logout_ShouldRevokeRefreshToken() throws Exception {
+        String refreshToken = login("test_member").get("refreshToken").asText();
+
+        mockMvc.perform(
+                post("/api/auth/logout")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody(refreshToken))
+        )
+                .andExpect(status().isNoContent());
+
+        assertTrue(revokedTokenRepository.existsById(jwtUtil.verify(refreshToken).tokenId()));
+
+        refresh(refreshToken)
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void refresh_WithAccessToken_ShouldReturn401() throws Exception {
+        String accessToken = login("test_member").get("accessToken").asText();
+
+        refresh(accessToken)
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void refresh_AfterRoleChange_ShouldRejectTokensOfOlderVersion() throws Exception {
+        String refreshToken = login("test_member").get("refreshToken").asText();
+        String adminToken = login("test_admin").get("accessToken").asText();
+
+        UserUpdateDTO update = new UserUpdateDTO();
+        update.setRole(Role.ADMIN);
+
+        mockMvc.perform(
+                put("/api/users/" + member.getId())
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update))
+        )
+                .andExpect(status().isOk());
+
+        refresh(refreshToken)
+                .andExpect(status().isUnauthorized());
+    }
+
+    private JsonNode login(String username) throws Exception {
+        LoginRequest request = new LoginRequest();
+        request.setUsername(username);
+        request.setPassword("password_test");
+
+        String response = mockMvc.perform(
+                post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+        )
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response);
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+        return mockMvc.perform(
+                post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody(refreshToken))
+        );
+    }
+
+    private String refreshBody(String refreshToken) throws Exception {
+        RefreshTokenRequest request = new RefreshTokenRequest();
+        request.setRefreshToken(refreshToken);
+        return objectMapper.writeValueAsString(request);
+    }
+}
@@ -0,0 +1,163 @@
+package cz.pavel.taskmanagement.backend.integrationTests;
+
+import cz.pavel.taskmanagement.backend.entity.Project;
+import cz.pavel.taskmanagement.backend.entity.Role;
+import cz.pavel.taskmanagement.backend.entity.User;
+import cz.pavel.taskmanagement.backend.repository.ProjectRepository;
+import cz.pavel.taskmanagement.backend.repository.UserRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.hamcrest.Matchers.hasItems;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Not transactional: entities only reach the second-level cache once their transaction commits,
+ * so every test commits its data and removes it again afterwards.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class CacheControllerIT extends Testutils {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User admin;
+    private String adminToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        entityManagerFactory.getCache().evictAll();
+
+        admin = userRepository.save(User.builder()
+                .username("test_admin")
+                .email("test_admin@pavel.cz")
+                .password(passwordEncoder.encode("password_test"))
+                .firstName("Test")
+                .lastName("Admin")
+                .role(Role.ADMIN)
+                .build());
+
+        adminToken = loginAndGetToken("test_admin", "password_test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteAll();
+        userRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void getStats_ShouldReportUserAndProjectRegions() throws Exception {
+        mockMvc.perform(
+                get("/api/cache/stats")
+                        .header("Authorization", "Bearer " + adminToken)
+        )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].region").value(hasItems(User.CACHE_REGION, Project.CACHE_REGION)));
+    }
+
+    @Test
+    void findById_RepeatedLookup_ShouldBeServedFromCache() {
+        Project project = saveProject("Cached Project");
+        projectRepository.findById(project.getId());
+
+        CacheRegionStatistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics()
+                .getCacheRegionStatistics(Project.CACHE_REGION);
+        long hits = statistics.getHitCount();
+
+        projectRepository.findById(project.getId());
+
+        assertEquals(hits + 1, statistics.getHitCount());
+        assertTrue(entityManagerFactory.getCache().contains(Project.class, project.getId()));
+    }
+
+    @Test
+    void evictAll_ShouldClearCachedEntities() throws Exception {
+        Project project = saveProject("Cached Project");
+        projectRepository.findById(project.getId());
+        assertTrue(entityManagerFactory.getCache().contains(Project.class, project.getId()));
+
+        mockMvc.perform(
+                delete("/api/cache")
+                        .header("Authorization", "Bearer " + adminToken)
+        )
+                .andExpect(status().isNoContent());
+
+        assertFalse(entityManagerFactory.getCache().contains(Project.class, project.getId()));
+    }
+
+    @Test
+    void adjustTaskCount_ShouldNotEvictCachedProjects() {
+        Project counted = saveProject("Counted Project");
+        Project other = saveProject("Other Project");
+        projectRepository.findById(counted.getId());
+        projectRepository.findById(other.getId());
+
+        transactionTemplate.executeWithoutResult(status -> projectRepository.adjustTaskCount(counted.getId(), 3));
+
+        Cache cache = entityManagerFactory.getCache();
+        assertTrue(cache.contains(Project.class, counted.getId()));
+        assertTrue(cache.contains(Project.class, other.getId()));
+        assertEquals(3, projectRepository.findTaskCount(counted.getId()));
+    }
+
+    @Test
+    void replacePassword_ShouldUpdateCachedUserWithoutEvictingOthers() {
+        User member = userRepository.save(User.builder()
+                .username("test_member")
+                .email("test_member@pavel.cz")
+                .password("old-hash")
+                .firstName("Test")
+                .lastName("Member")
+                .role(Role.USER)
+                .build());
+        userRepository.findById(member.getId());
+        userRepository.findById(admin.getId());
+
+        assertEquals(0, userRepository.replacePassword(member.getId(), "other-hash", "new-hash"));
+        assertEquals(1, userRepository.replacePassword(member.getId(), "old-hash", "new-hash"));
+
+        assertTrue(entityManagerFactory.getCache().contains(User.class, admin.getId()));
+        assertEquals("new-hash", userRepository.findById(member.getId()).orElseThrow().getPassword());
+    }
+
+    private Project saveProject(String name) {
+        Project project = new Project();
+        project.setName(name);
+        project.setOwner(admin);
+        return projectRepository.save(project);
+    }
+}
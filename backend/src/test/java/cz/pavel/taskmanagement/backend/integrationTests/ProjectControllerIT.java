@@ -123,7 +123,7 @@ public class ProjectControllerIT extends Testutils {
     }
 
     @Test
-    void deleteProject_ShouldRemoveFromDatabase() throws Exception {
+    void deleteProject_ShouldHideProjectAndScheduleJob() throws Exception {
         Project project = new Project();
         project.setName("Test Project to delete");
         project.setDescription("Project for deletion testing");
@@ -137,9 +137,16 @@ public class ProjectControllerIT extends Testutils {
                 delete("/api/projects/" + projectId)
                         .header("Authorization", "Bearer " + adminToken)
         )
-                .andExpect(status().isNoContent());
-        assertEquals(0, projectRepository.count());
-        assertFalse(projectRepository.existsById(projectId));
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.type").value("project-deletion"))
+                .andExpect(jsonPath("$.targetId").value(projectId))
+                .andExpect(jsonPath("$.id").isNotEmpty());
+
+        mockMvc.perform(get("/api/projects")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        assertFalse(projectRepository.existsActiveById(projectId));
     }
 
     @Test
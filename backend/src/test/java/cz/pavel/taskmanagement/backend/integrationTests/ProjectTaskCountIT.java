@@ -0,0 +1,136 @@
+package cz.pavel.taskmanagement.backend.integrationTests;
+
+import cz.pavel.taskmanagement.backend.dto.project.ProjectUpdateDTO;
+import cz.pavel.taskmanagement.backend.dto.task.TaskCreateDTO;
+import cz.pavel.taskmanagement.backend.entity.Project;
+import cz.pavel.taskmanagement.backend.entity.Role;
+import cz.pavel.taskmanagement.backend.entity.User;
+import cz.pavel.taskmanagement.backend.repository.ProjectRepository;
+import cz.pavel.taskmanagement.backend.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "tasker.projects.denormalized-task-count=true")
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+public class ProjectTaskCountIT extends Testutils {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private String adminToken;
+    private Project project;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        User admin = User.builder()
+                .username("test_admin")
+                .email("test_admin@pavel.cz")
+                .password(passwordEncoder.encode("password_test"))
+                .firstName("Test")
+                .lastName("Admin")
+                .role(Role.ADMIN)
+                .build();
+        userRepository.save(admin);
+
+        project = new Project();
+        project.setName("Counted Project");
+        project.setOwner(admin);
+        projectRepository.save(project);
+
+        adminToken = loginAndGetToken("test_admin", "password_test");
+    }
+
+    @Test
+    void createAndDeleteTask_ShouldKeepTaskCountInStep() throws Exception {
+        long first = createTask("Task 1");
+        createTask("Task 2");
+
+        entityManager.clear();
+        assertEquals(2, projectRepository.findById(project.getId()).orElseThrow().getTaskCount());
+
+        mockMvc.perform(
+                delete("/api/tasks/" + first)
+                        .header("Authorization", "Bearer " + adminToken)
+        )
+                .andExpect(status().isNoContent());
+
+        entityManager.clear();
+        mockMvc.perform(
+                get("/api/projects/" + project.getId())
+                        .header("Authorization", "Bearer " + adminToken)
+        )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.taskCount").value(1));
+    }
+
+    @Test
+    void updateProject_WithStaleLoadedCount_ShouldNotOverwriteTaskCount() throws Exception {
+        // The project loaded in setUp still holds task_count = 0 while the counter is bumped in the database
+        createTask("Task 1");
+        createTask("Task 2");
+
+        ProjectUpdateDTO update = new ProjectUpdateDTO();
+        update.setName("Renamed Project");
+        update.setDescription("Renamed");
+
+        mockMvc.perform(
+                put("/api/projects/" + project.getId())
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update))
+        )
+                .andExpect(status().isOk());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        Project reloaded = projectRepository.findById(project.getId()).orElseThrow();
+        assertEquals("Renamed Project", reloaded.getName());
+        assertEquals(2, reloaded.getTaskCount());
+    }
+
+    private long createTask(String title) throws Exception {
+        TaskCreateDTO task = new TaskCreateDTO();
+        task.setTitle(title);
+        task.setProjectId(project.getId());
+
+        String response = mockMvc.perform(
+                post("/api/tasks")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(task))
+        )
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+}
@@ -0,0 +1,39 @@
+package cz.pavel.taskmanagement.backend.integrationTests;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "tasker.rate-limit.enabled=true",
+        "tasker.rate-limit.auth.per-second=0.01",
+        "tasker.rate-limit.auth.burst=2"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class RateLimitIT extends Testutils {
+
+    @Test
+    void requestsWithInvalidToken_OverAuthLimit_ShouldBeRejectedBeforeTokenCheck() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(
+                    get("/api/projects")
+                            .header("Authorization", "Bearer not-a-token")
+            )
+                    .andExpect(status().isUnauthorized());
+        }
+
+        mockMvc.perform(
+                get("/api/projects")
+                        .header("Authorization", "Bearer not-a-token")
+        )
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+    }
+}
@@ -0,0 +1,210 @@
+package cz.pavel.taskmanagement.backend.integrationTests;
+
+import cz.pavel.taskmanagement.backend.coalesce.Coalesced;
+import cz.pavel.taskmanagement.backend.coalesce.ReadCoalescingAspect;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Not transactional on purpose: the aspect only coalesces calls made outside a transaction,
+ * and the epoch only moves when a read-write transaction really commits.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class ReadCoalescingIT {
+
+    @Autowired
+    private CoalescedReads reads;
+
+    @Autowired
+    private ReadProbe probe;
+
+    @Autowired
+    private ReadCoalescingAspect aspect;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private ExecutorService callers;
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        ReadProbe readProbe() {
+            return new ReadProbe();
+        }
+
+        @Bean
+        CoalescedReads coalescedReads(ReadProbe probe) {
+            return new CoalescedReads(probe);
+        }
+    }
+
+    record Read(int invocation, boolean readOnly) {
+    }
+
+    // Kept out of the proxied bean, whose fields the test could not reach through the proxy
+    static class ReadProbe {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+        private final Semaphore entered = new Semaphore(0);
+        private volatile CountDownLatch release = new CountDownLatch(0);
+
+        void reset() {
+            release = new CountDownLatch(1);
+            entered.drainPermits();
+        }
+
+        boolean awaitEntered() throws InterruptedException {
+            return entered.tryAcquire(5, TimeUnit.SECONDS);
+        }
+
+        void releaseAll() {
+            release.countDown();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    static class CoalescedReads {
+
+        private final ReadProbe probe;
+
+        CoalescedReads(ReadProbe probe) {
+            this.probe = probe;
+        }
+
+        @Coalesced
+        public Read read(String key) {
+            Read read = new Read(probe.invocations.incrementAndGet(),
+                    TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            probe.entered.release();
+            try {
+                if (!probe.release.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Read was never released");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return read;
+        }
+
+        @Transactional
+        public void write() {
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        callers = Executors.newFixedThreadPool(4);
+        probe.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        probe.releaseAll();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void read_AfterCommittedWrite_ShouldNotJoinOlderFlight() throws Exception {
+        long coalescedBefore = aspect.getStats().getCoalesced();
+
+        Future<Read> first = callers.submit(() -> reads.read("board"));
+        assertTrue(probe.awaitEntered());
+        Future<Read> joined = callers.submit(() -> reads.read("board"));
+        awaitCoalesced(coalescedBefore + 1);
+
+        reads.write();
+        Future<Read> afterWrite = callers.submit(() -> reads.read("board"));
+        // Entering the method means it got an execution of its own instead of waiting for the first one
+        assertTrue(probe.awaitEntered());
+
+        probe.releaseAll();
+        assertEquals(first.get().invocation(), joined.get().invocation());
+        assertNotEquals(first.get().invocation(), afterWrite.get().invocation());
+        assertEquals(coalescedBefore + 1, aspect.getStats().getCoalesced());
+    }
+
+    @Test
+    void read_ShouldCoalesceOutsideReadOnlyTransaction() throws Exception {
+        long coalescedBefore = aspect.getStats().getCoalesced();
+
+        Future<Read> first = callers.submit(() -> reads.read("projects"));
+        assertTrue(probe.awaitEntered());
+        Future<Read> joined = callers.submit(() -> reads.read("projects"));
+        awaitCoalesced(coalescedBefore + 1);
+
+        probe.releaseAll();
+        // The shared execution still ran in the method's read-only transaction, opened inside the aspect
+        assertTrue(first.get().readOnly());
+        assertSame(first.get(), joined.get());
+    }
+
+    @Test
+    void read_InsideTransaction_ShouldRunOnItsOwn() throws Exception {
+        long coalescedBefore = aspect.getStats().getCoalesced();
+
+        Future<Read> first = callers.submit(() -> reads.read("tasks"));
+        assertTrue(probe.awaitEntered());
+        Future<Read> inTransaction = callers.submit(() -> transactionTemplate.execute(status -> reads.read("tasks")));
+        assertTrue(probe.awaitEntered());
+
+        probe.releaseAll();
+        assertNotEquals(first.get().invocation(), inTransaction.get().invocation());
+        assertEquals(coalescedBefore, aspect.getStats().getCoalesced());
+    }
+
+    @Test
+    void afterCommit_ShouldOnlyStartNewEpochForReadWriteTransactions() {
+        AtomicLong epoch = (AtomicLong) ReflectionTestUtils.getField(aspect, "epoch");
+        long before = epoch.get();
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+        });
+        assertEquals(before, epoch.get());
+
+        reads.write();
+        assertEquals(before + 1, epoch.get());
+
+        // A rolled back transaction changed nothing other readers could miss
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            throw new IllegalStateException("rolled back");
+        }));
+        assertEquals(before + 1, epoch.get());
+    }
+
+    private void awaitCoalesced(long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (aspect.getStats().getCoalesced() < expected) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Second read never joined the running one");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -1,14 +1,21 @@
 package cz.pavel.taskmanagement.backend.integrationTests;
 
+import cz.pavel.taskmanagement.backend.dto.task.TaskBulkUpdateDTO;
+import cz.pavel.taskmanagement.backend.dto.task.TaskChangeSetDTO;
 import cz.pavel.taskmanagement.backend.dto.task.TaskCreateDTO;
+import cz.pavel.taskmanagement.backend.dto.task.TaskSearchCriteria;
 import cz.pavel.taskmanagement.backend.dto.task.TaskUpdateDTO;
+import cz.pavel.taskmanagement.backend.entity.Priority;
 import cz.pavel.taskmanagement.backend.entity.Project;
 import cz.pavel.taskmanagement.backend.entity.Role;
 import cz.pavel.taskmanagement.backend.entity.Task;
+import cz.pavel.taskmanagement.backend.entity.TaskStatus;
 import cz.pavel.taskmanagement.backend.entity.User;
 import cz.pavel.taskmanagement.backend.repository.ProjectRepository;
 import cz.pavel.taskmanagement.backend.repository.TaskRepository;
 import cz.pavel.taskmanagement.backend.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,6 +26,10 @@ import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -43,6 +54,9 @@ public class TaskControllerIT extends Testutils {
     @Autowired
     PasswordEncoder passwordEncoder;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     private String adminToken;
     private Project testProject;
 
@@ -198,4 +212,357 @@ public class TaskControllerIT extends Testutils {
                 .andExpect(jsonPath("$.id").value(task.getId()));
 
     }
+
+    @Test
+    void searchTasks_WithStatusAndPriority_ShouldReturnOnlyMatchingTasks() throws Exception {
+        TaskStatus[] statuses = {TaskStatus.TODO, TaskStatus.IN_PROGRESS, TaskStatus.DONE};
+        for (int i = 0; i < 6; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setStatus(statuses[i % 3]);
+            task.setPriority(i < 3 ? Priority.HIGH : Priority.LOW);
+            task.setProject(testProject);
+            taskRepository.save(task);
+        }
+
+        mockMvc.perform(
+                get("/api/tasks/search")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .param("projectId", testProject.getId().toString())
+                        .param("status", "TODO,DONE")
+                        .param("priority", "HIGH")
+        )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].title").value("Task 0"))
+                .andExpect(jsonPath("$.items[1].title").value("Task 2"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void getTasksPage_ShouldContinueFromCursor() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setProject(testProject);
+            taskRepository.save(task);
+        }
+
+        String firstPage = mockMvc.perform(
+                get("/api/tasks/page")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .param("limit", "2")
+        )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(
+                get("/api/tasks/page")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .param("limit", "2")
+                        .param("cursor", cursor)
+        )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("Task 3"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void getTasksPage_WithMalformedCursor_ShouldReturn400() throws Exception {
+        mockMvc.perform(
+                get("/api/tasks/page")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .param("cursor", "not-a-cursor")
+        )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid cursor"));
+    }
+
+    @Test
+    void getTasksPage_WithCursorOfAnotherSort_ShouldReturn400() throws Exception {
+        for (int i = 1; i <= 2; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setProject(testProject);
+            taskRepository.save(task);
+        }
+
+        String firstPage = mockMvc.perform(
+                get("/api/tasks/page")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .param("limit", "1")
+        )
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(
+                get("/api/tasks/page")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .param("sort", "priority")
+                        .param("cursor", objectMapper.readTree(firstPage).get("nextCursor").asText())
+        )
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getTasksPage_WithUnknownSort_ShouldReturn400() throws Exception {
+        mockMvc.perform(
+                get("/api/tasks/page")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .param("sort", "title")
+        )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported sort: title"));
+    }
+
+    @Test
+    void exportTasks_WithUnknownFormat_ShouldReturn400() throws Exception {
+        mockMvc.perform(
+                get("/api/tasks/export")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .param("format", "xlsx")
+        )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported export format: xlsx"));
+    }
+
+    @Test
+    void createTasksBulk_WithNdjson_ShouldCreateValidItemsAndReportErrors() throws Exception {
+        String body = String.join("\n",
+                "{\"title\": \"Bulk 1\", \"projectId\": " + testProject.getId() + "}",
+                "{\"title\": \"\", \"projectId\": " + testProject.getId() + "}",
+                "{\"title\": \"Bulk 3\", \"projectId\": 999999}",
+                "{\"title\": \"Bulk 4\", \"projectId\": " + testProject.getId() + ", \"priority\": \"HIGH\"}");
+
+        mockMvc.perform(
+                post("/api/tasks/bulk")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body)
+        )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(4))
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.errors[0].index").value(1))
+                .andExpect(jsonPath("$.errors[1].index").value(2));
+
+        assertEquals(2, taskRepository.count());
+    }
+
+    @Test
+    void createTasksBulk_WithExplicitNullStatus_ShouldRejectOnlyThatItem() throws Exception {
+        String body = String.join("\n",
+                "{\"title\": \"Bulk 1\", \"projectId\": " + testProject.getId() + "}",
+                "{\"title\": \"Bulk 2\", \"projectId\": " + testProject.getId() + ", \"status\": null}",
+                "{\"title\": \"Bulk 3\", \"projectId\": " + testProject.getId() + ", \"status\": \"DONE\"}");
+
+        mockMvc.perform(
+                post("/api/tasks/bulk")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body)
+        )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors[0].index").value(1))
+                .andExpect(jsonPath("$.errors[0].message").value("status: Status must not be null"));
+
+        assertEquals(2, taskRepository.count());
+    }
+
+    @Test
+    void updateTasksBulk_WithPartialChangeSet_ShouldOnlyChangeGivenFields() throws Exception {
+        Task first = saveTask("Bulk A", testProject, TaskStatus.TODO, Priority.LOW);
+        Task second = saveTask("Bulk B", testProject, TaskStatus.IN_PROGRESS, Priority.LOW);
+        Task untouched = saveTask("Bulk C", testProject, TaskStatus.TODO, Priority.LOW);
+
+        TaskChangeSetDTO changes = new TaskChangeSetDTO();
+        changes.setPriority(Priority.HIGH);
+        TaskBulkUpdateDTO update = new TaskBulkUpdateDTO(List.of(first.getId(), second.getId()), null, changes);
+
+        mockMvc.perform(
+                patch("/api/tasks/bulk")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update))
+        )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(2))
+                .andExpect(jsonPath("$.statements").value(1));
+
+        // The update is set-based, drop the stale entities before reading them back
+        entityManager.clear();
+
+        Task updatedFirst = taskRepository.findById(first.getId()).orElseThrow();
+        assertEquals(Priority.HIGH, updatedFirst.getPriority());
+        assertEquals(TaskStatus.TODO, updatedFirst.getStatus());
+        assertEquals("Bulk A", updatedFirst.getTitle());
+
+        Task updatedSecond = taskRepository.findById(second.getId()).orElseThrow();
+        assertEquals(Priority.HIGH, updatedSecond.getPriority());
+        assertEquals(TaskStatus.IN_PROGRESS, updatedSecond.getStatus());
+
+        assertEquals(Priority.LOW, taskRepository.findById(untouched.getId()).orElseThrow().getPriority());
+    }
+
+    @Test
+    void updateTasksBulk_WithUnknownIds_ShouldCountOnlyExistingTasks() throws Exception {
+        Task task = saveTask("Bulk A", testProject, TaskStatus.TODO, Priority.LOW);
+
+        TaskChangeSetDTO changes = new TaskChangeSetDTO();
+        changes.setStatus(TaskStatus.DONE);
+        TaskBulkUpdateDTO update = new TaskBulkUpdateDTO(List.of(task.getId(), 999998L, 999999L, task.getId()), null, changes);
+
+        mockMvc.perform(
+                patch("/api/tasks/bulk")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update))
+        )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(1))
+                .andExpect(jsonPath("$.statements").value(1));
+
+        entityManager.clear();
+        assertEquals(TaskStatus.DONE, taskRepository.findById(task.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void updateTasksBulk_WithIdsFromSeveralProjects_ShouldApplyFilterAcrossThem() throws Exception {
+        Project otherProject = new Project();
+        otherProject.setName("Other Project");
+        otherProject.setOwner(testProject.getOwner());
+        projectRepository.save(otherProject);
+
+        Task inTestProject = saveTask("Bulk A", testProject, TaskStatus.TODO, Priority.LOW);
+        Task inOtherProject = saveTask("Bulk B", otherProject, TaskStatus.TODO, Priority.LOW);
+
+        TaskSearchCriteria filter = new TaskSearchCriteria();
+        filter.setProjectId(testProject.getId());
+        TaskChangeSetDTO changes = new TaskChangeSetDTO();
+        changes.setStatus(TaskStatus.DONE);
+        TaskBulkUpdateDTO update = new TaskBulkUpdateDTO(List.of(inTestProject.getId(), inOtherProject.getId()), filter, changes);
+
+        mockMvc.perform(
+                patch("/api/tasks/bulk")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update))
+        )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(1));
+
+        entityManager.clear();
+        assertEquals(TaskStatus.DONE, taskRepository.findById(inTestProject.getId()).orElseThrow().getStatus());
+        assertEquals(TaskStatus.TODO, taskRepository.findById(inOtherProject.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void updateTasksBulk_MovingTasksFromSeveralProjects_ShouldMoveAllOfThem() throws Exception {
+        Project otherProject = new Project();
+        otherProject.setName("Other Project");
+        otherProject.setOwner(testProject.getOwner());
+        projectRepository.save(otherProject);
+        Project targetProject = new Project();
+        targetProject.setName("Target Project");
+        targetProject.setOwner(testProject.getOwner());
+        projectRepository.save(targetProject);
+
+        Task first = saveTask("Bulk A", testProject, TaskStatus.TODO, Priority.LOW);
+        Task second = saveTask("Bulk B", otherProject, TaskStatus.TODO, Priority.LOW);
+        Task third = saveTask("Bulk C", otherProject, TaskStatus.DONE, Priority.HIGH);
+
+        TaskSearchCriteria filter = new TaskSearchCriteria();
+        filter.setStatus(Set.of(TaskStatus.TODO, TaskStatus.DONE));
+        TaskChangeSetDTO changes = new TaskChangeSetDTO();
+        changes.setProjectId(targetProject.getId());
+        TaskBulkUpdateDTO update = new TaskBulkUpdateDTO(List.of(first.getId(), second.getId(), third.getId()), filter, changes);
+
+        mockMvc.perform(
+                patch("/api/tasks/bulk")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update))
+        )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(3))
+                .andExpect(jsonPath("$.statements").value(1));
+
+        entityManager.clear();
+        for (Task task : List.of(first, second, third)) {
+            Task moved = taskRepository.findById(task.getId()).orElseThrow();
+            assertEquals(targetProject.getId(), moved.getProject().getId());
+        }
+        assertEquals(Priority.HIGH, taskRepository.findById(third.getId()).orElseThrow().getPriority());
+    }
+
+    @Test
+    void updateTasksBulk_WithEmptyChangeSet_ShouldReturn400() throws Exception {
+        TaskBulkUpdateDTO update = new TaskBulkUpdateDTO(List.of(1L), null, new TaskChangeSetDTO());
+
+        expectBulkUpdateRejected(update, "Change set is empty");
+    }
+
+    @Test
+    void updateTasksBulk_AssigningAndUnassigning_ShouldReturn400() throws Exception {
+        TaskChangeSetDTO changes = new TaskChangeSetDTO();
+        changes.setAssigneeId(testProject.getOwner().getId());
+        changes.setUnassign(true);
+        TaskBulkUpdateDTO update = new TaskBulkUpdateDTO(List.of(1L), null, changes);
+
+        expectBulkUpdateRejected(update, "Cannot assign and unassign at the same time");
+    }
+
+    @Test
+    void updateTasksBulk_WithoutSelector_ShouldReturn400() throws Exception {
+        Task task = saveTask("Bulk A", testProject, TaskStatus.TODO, Priority.LOW);
+
+        TaskChangeSetDTO changes = new TaskChangeSetDTO();
+        changes.setStatus(TaskStatus.DONE);
+        TaskBulkUpdateDTO update = new TaskBulkUpdateDTO(List.of(), new TaskSearchCriteria(), changes);
+
+        expectBulkUpdateRejected(update, "Select tasks by ids or by at least one filter criterion");
+
+        entityManager.clear();
+        assertEquals(TaskStatus.TODO, taskRepository.findById(task.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void updateTasksBulk_WithDueFromAfterDueTo_ShouldReturn400() throws Exception {
+        TaskSearchCriteria filter = new TaskSearchCriteria();
+        filter.setDueFrom(LocalDate.now().plusDays(1));
+        filter.setDueTo(LocalDate.now());
+        TaskChangeSetDTO changes = new TaskChangeSetDTO();
+        changes.setStatus(TaskStatus.DONE);
+        TaskBulkUpdateDTO update = new TaskBulkUpdateDTO(null, filter, changes);
+
+        expectBulkUpdateRejected(update, "dueFrom must not be after dueTo");
+    }
+
+    private void expectBulkUpdateRejected(TaskBulkUpdateDTO update, String message) throws Exception {
+        mockMvc.perform(
+                patch("/api/tasks/bulk")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update))
+        )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(message));
+    }
+
+    private Task saveTask(String title, Project project, TaskStatus status, Priority priority) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setProject(project);
+        task.setStatus(status);
+        task.setPriority(priority);
+        return taskRepository.save(task);
+    }
 }
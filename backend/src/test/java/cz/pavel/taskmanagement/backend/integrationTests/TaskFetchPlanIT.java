@@ -0,0 +1,182 @@
+package cz.pavel.taskmanagement.backend.integrationTests;
+
+import cz.pavel.taskmanagement.backend.dto.task.TaskResponseDTO;
+import cz.pavel.taskmanagement.backend.entity.Project;
+import cz.pavel.taskmanagement.backend.entity.Role;
+import cz.pavel.taskmanagement.backend.entity.Task;
+import cz.pavel.taskmanagement.backend.entity.TaskStatus;
+import cz.pavel.taskmanagement.backend.entity.User;
+import cz.pavel.taskmanagement.backend.exception.ResourceNotFoundException;
+import cz.pavel.taskmanagement.backend.repository.ProjectRepository;
+import cz.pavel.taskmanagement.backend.repository.TaskRepository;
+import cz.pavel.taskmanagement.backend.repository.UserRepository;
+import cz.pavel.taskmanagement.backend.service.TaskService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Runs the task listings on the entity path ({@code tasker.jpa.list-projections=false}), which
+ * the default configuration never takes, and checks it against the projection path.
+ */
+@SpringBootTest(properties = {"tasker.jpa.list-projections=false", "tasker.cache.statistics=true"})
+@Transactional
+@ActiveProfiles("test")
+public class TaskFetchPlanIT {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Project alpha;
+    private User alice;
+
+    @BeforeEach
+    void setUp() {
+        alice = saveUser("alice");
+        User bob = saveUser("bob");
+
+        alpha = saveProject("Alpha", alice);
+        Project beta = saveProject("Beta", bob);
+
+        saveTask("Task 1", alpha, alice, TaskStatus.TODO);
+        saveTask("Task 2", alpha, bob, TaskStatus.DONE);
+        saveTask("Task 3", beta, alice, TaskStatus.TODO);
+        saveTask("Task 4", beta, null, TaskStatus.IN_PROGRESS);
+
+        entityManager.flush();
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+    }
+
+    @Test
+    void getAllTasks_WithFetchPlans_ShouldLoadRelationsInOneStatement() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<TaskResponseDTO> tasks = sorted(taskService.getAllTasks());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(4, tasks.size());
+        assertEquals("Alpha", tasks.get(0).getProjectName());
+        assertEquals("alice", tasks.get(0).getAssignee().getUsername());
+        assertEquals("Beta", tasks.get(3).getProjectName());
+        assertNull(tasks.get(3).getAssignee());
+    }
+
+    @Test
+    void listings_ShouldMatchProjectionPath() {
+        assertSameAsProjections(() -> taskService.getAllTasks());
+        assertSameAsProjections(() -> taskService.getTasksByProject(alpha.getId()));
+        assertSameAsProjections(() -> taskService.getTasksByAssignee(alice.getId()));
+        assertSameAsProjections(() -> taskService.getTasksByStatus(TaskStatus.TODO));
+    }
+
+    @Test
+    void listings_WithoutFetchPlans_ShouldMatchProjectionPath() {
+        Object target = AopTestUtils.getUltimateTargetObject(taskService);
+        ReflectionTestUtils.setField(target, "fetchPlans", false);
+        try {
+            assertSameAsProjections(() -> taskService.getAllTasks());
+            assertSameAsProjections(() -> taskService.getTasksByProject(alpha.getId()));
+        } finally {
+            ReflectionTestUtils.setField(target, "fetchPlans", true);
+        }
+    }
+
+    @Test
+    void reads_ShouldLeaveOutTasksOfProjectsPendingDeletion() {
+        Project gamma = saveProject("Gamma", alice);
+        Long hidden = saveTask("Task 5", gamma, alice, TaskStatus.TODO).getId();
+        entityManager.flush();
+        projectRepository.markDeleted(gamma.getId());
+
+        assertEquals(4, taskService.getAllTasks().size());
+        assertSameAsProjections(() -> taskService.getAllTasks());
+        assertSameAsProjections(() -> taskService.getTasksByAssignee(alice.getId()));
+        assertSameAsProjections(() -> taskService.getTasksByStatus(TaskStatus.TODO));
+        assertEquals(4, taskService.getTasksPage(null, null, null).getItems().size());
+        assertThrows(ResourceNotFoundException.class, () -> taskService.getTaskById(hidden));
+
+        Object target = AopTestUtils.getUltimateTargetObject(taskService);
+        ReflectionTestUtils.setField(target, "fetchPlans", false);
+        try {
+            assertEquals(4, taskService.getAllTasks().size());
+            assertThrows(ResourceNotFoundException.class, () -> taskService.getTaskById(hidden));
+        } finally {
+            ReflectionTestUtils.setField(target, "fetchPlans", true);
+        }
+    }
+
+    private void assertSameAsProjections(Supplier<List<TaskResponseDTO>> listing) {
+        Object target = AopTestUtils.getUltimateTargetObject(taskService);
+        List<TaskResponseDTO> fromEntities = sorted(listing.get());
+        entityManager.clear();
+
+        ReflectionTestUtils.setField(target, "listProjections", true);
+        try {
+            assertEquals(sorted(listing.get()), fromEntities);
+        } finally {
+            ReflectionTestUtils.setField(target, "listProjections", false);
+        }
+    }
+
+    private static List<TaskResponseDTO> sorted(List<TaskResponseDTO> tasks) {
+        return tasks.stream().sorted(Comparator.comparing(TaskResponseDTO::getId)).toList();
+    }
+
+    private User saveUser(String username) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@pavel.cz")
+                .password("password_hash")
+                .firstName("Test")
+                .lastName("User")
+                .role(Role.USER)
+                .build());
+    }
+
+    private Project saveProject(String name, User owner) {
+        Project project = new Project();
+        project.setName(name);
+        project.setOwner(owner);
+        return projectRepository.save(project);
+    }
+
+    private Task saveTask(String title, Project project, User assignee, TaskStatus status) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setProject(project);
+        task.setAssignee(assignee);
+        task.setStatus(status);
+        return taskRepository.save(task);
+    }
+}
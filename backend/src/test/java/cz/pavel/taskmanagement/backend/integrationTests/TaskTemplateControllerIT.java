@@ -0,0 +1,114 @@
+package cz.pavel.taskmanagement.backend.integrationTests;
+
+import cz.pavel.taskmanagement.backend.dto.template.TaskTemplateCreateDTO;
+import cz.pavel.taskmanagement.backend.entity.Project;
+import cz.pavel.taskmanagement.backend.entity.Recurrence;
+import cz.pavel.taskmanagement.backend.entity.Role;
+import cz.pavel.taskmanagement.backend.entity.User;
+import cz.pavel.taskmanagement.backend.repository.ProjectRepository;
+import cz.pavel.taskmanagement.backend.repository.TaskTemplateRepository;
+import cz.pavel.taskmanagement.backend.repository.UserRepository;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+public class TaskTemplateControllerIT extends Testutils {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskTemplateRepository taskTemplateRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private String adminToken;
+    private Project testProject;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        User admin = User.builder()
+                .username("test_admin")
+                .email("test_admin@pavel.cz")
+                .password(passwordEncoder.encode("password_test"))
+                .firstName("Test")
+                .lastName("Admin")
+                .role(Role.ADMIN)
+                .build();
+
+        userRepository.save(admin);
+
+        testProject = new Project();
+        testProject.setName("Test Project");
+        testProject.setOwner(admin);
+        projectRepository.save(testProject);
+
+        adminToken = loginAndGetToken("test_admin", "password_test");
+    }
+
+    @Test
+    void createTemplate_WithValidData_ShouldReturn201WithFirstOccurrence() throws Exception {
+        LocalDate today = LocalDate.now();
+        TaskTemplateCreateDTO template = template(today, today.plusDays(30));
+
+        mockMvc.perform(
+                        post("/api/templates")
+                                .header("Authorization", "Bearer " + adminToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(template))
+                )
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.title").value("Weekly report"))
+                .andExpect(jsonPath("$.nextOccurrence").value(today.toString()));
+
+        assertEquals(1, taskTemplateRepository.count());
+    }
+
+    @Test
+    void createTemplate_WithEndDateBeforeStartDate_ShouldReturn400() throws Exception {
+        LocalDate today = LocalDate.now();
+        TaskTemplateCreateDTO template = template(today, today.minusDays(1));
+
+        mockMvc.perform(
+                        post("/api/templates")
+                                .header("Authorization", "Bearer " + adminToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(template))
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("endDate must not be before startDate"));
+
+        assertEquals(0, taskTemplateRepository.count());
+    }
+
+    private TaskTemplateCreateDTO template(LocalDate startDate, LocalDate endDate) {
+        TaskTemplateCreateDTO template = new TaskTemplateCreateDTO();
+        template.setTitle("Weekly report");
+        template.setProjectId(testProject.getId());
+        template.setRecurrence(Recurrence.WEEKLY);
+        template.setStartDate(startDate);
+        template.setEndDate(endDate);
+        return template;
+    }
+}
@@ -0,0 +1,139 @@
+package cz.pavel.taskmanagement.backend.integrationTests;
+
+import cz.pavel.taskmanagement.backend.dto.user.UserOffboardDTO;
+import cz.pavel.taskmanagement.backend.entity.Project;
+import cz.pavel.taskmanagement.backend.entity.Role;
+import cz.pavel.taskmanagement.backend.entity.Task;
+import cz.pavel.taskmanagement.backend.entity.User;
+import cz.pavel.taskmanagement.backend.repository.ProjectRepository;
+import cz.pavel.taskmanagement.backend.repository.TaskRepository;
+import cz.pavel.taskmanagement.backend.repository.UserRepository;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+public class UserControllerIT extends Testutils {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    PasswordEncoder passwordEncoder;
+
+    private String adminToken;
+    private User admin;
+    private User member;
+
+    @BeforeEach
+    void setup() throws Exception {
+        admin = userRepository.save(User.builder()
+                .username("test_admin")
+                .email("test_admin@pavel.cz")
+                .password(passwordEncoder.encode("password_test"))
+                .firstName("Test")
+                .lastName("Admin")
+                .role(Role.ADMIN)
+                .build());
+
+        member = userRepository.save(User.builder()
+                .username("test_member")
+                .email("test_member@pavel.cz")
+                .password(passwordEncoder.encode("password_test"))
+                .firstName("Test")
+                .lastName("Member")
+                .role(Role.USER)
+                .build());
+
+        adminToken = loginAndGetToken("test_admin", "password_test");
+    }
+
+    @Test
+    void deleteUser_WithoutTasksOrProjects_ShouldReturn204() throws Exception {
+        mockMvc.perform(
+                delete("/api/users/" + member.getId())
+                        .header("Authorization", "Bearer " + adminToken)
+        )
+                .andExpect(status().isNoContent());
+
+        assertFalse(userRepository.existsById(member.getId()));
+    }
+
+    @Test
+    void deleteUser_OwningProject_ShouldReturn409AndKeepUser() throws Exception {
+        Project project = new Project();
+        project.setName("Member Project");
+        project.setOwner(member);
+        projectRepository.save(project);
+
+        mockMvc.perform(
+                delete("/api/users/" + member.getId())
+                        .header("Authorization", "Bearer " + adminToken)
+        )
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409));
+
+        assertTrue(userRepository.existsById(member.getId()));
+    }
+
+    @Test
+    void deleteUserByEmail_WithAssignedTask_ShouldReturn409AndKeepUser() throws Exception {
+        Project project = new Project();
+        project.setName("Admin Project");
+        project.setOwner(admin);
+        projectRepository.save(project);
+
+        Task task = new Task();
+        task.setTitle("Assigned Task");
+        task.setProject(project);
+        task.setAssignee(member);
+        taskRepository.save(task);
+
+        mockMvc.perform(
+                delete("/api/users/by-email/" + member.getEmail())
+                        .header("Authorization", "Bearer " + adminToken)
+        )
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409));
+
+        assertTrue(userRepository.existsById(member.getId()));
+    }
+
+    @Test
+    void offboardUser_AsOwnSuccessor_ShouldReturn400AndKeepUser() throws Exception {
+        UserOffboardDTO offboard = new UserOffboardDTO(member.getId(), false);
+
+        mockMvc.perform(
+                post("/api/users/" + member.getId() + "/offboard")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(offboard))
+        )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("User cannot be their own successor"));
+
+        assertTrue(userRepository.existsById(member.getId()));
+    }
+}
@@ -0,0 +1,104 @@
+package cz.pavel.taskmanagement.backend.unitTests;
+
+import cz.pavel.taskmanagement.backend.security.AdaptiveConcurrencyLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AdaptiveConcurrencyLimiter Unit Tests")
+public class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLI = 1_000_000L;
+    private static final long WINDOW = 100 * MILLI;
+    private static final long START = 7 * WINDOW;
+
+    @Test
+    void tryAcquire_ShouldRejectAboveLimitButLeaveHeadroomForPriority() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(3, 1, 10, 1, 2.0, WINDOW, START);
+
+        assertTrue(limiter.tryAcquire(false));
+        assertTrue(limiter.tryAcquire(false));
+        assertTrue(limiter.tryAcquire(false));
+        assertFalse(limiter.tryAcquire(false));
+        assertTrue(limiter.tryAcquire(true));
+        assertFalse(limiter.tryAcquire(true));
+
+        // The priority request still holds a slot above the limit
+        limiter.release(MILLI, START);
+        assertFalse(limiter.tryAcquire(false));
+
+        limiter.release(MILLI, START);
+        assertTrue(limiter.tryAcquire(false));
+        assertEquals(3, limiter.getInFlight());
+        assertEquals(3, limiter.getRejected());
+    }
+
+    @Test
+    void release_WithStableLatencyUnderLoad_ShouldRaiseLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 5, 100, 0, 2.0, WINDOW, START);
+
+        long now = START;
+        for (int i = 0; i < 10; i++) {
+            now = runWindow(limiter, limiter.getLimit(), 10 * MILLI, now);
+        }
+
+        assertTrue(limiter.getLimit() > 20);
+        assertTrue(limiter.getLimit() <= 100);
+    }
+
+    @Test
+    void release_WithLowUtilization_ShouldKeepLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 5, 100, 0, 2.0, WINDOW, START);
+
+        long now = START;
+        for (int i = 0; i < 10; i++) {
+            now = runWindow(limiter, 2, 10 * MILLI, now);
+        }
+
+        assertEquals(20, limiter.getLimit());
+    }
+
+    @Test
+    void release_WhenLatencyRises_ShouldShrinkLimitAndRecoverAfterwards() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50, 5, 100, 0, 2.0, WINDOW, START);
+
+        long now = runWindow(limiter, 50, 10 * MILLI, START);
+        int healthyLimit = limiter.getLimit();
+
+        now = runWindow(limiter, limiter.getLimit(), 200 * MILLI, now);
+        assertTrue(limiter.getLimit() < healthyLimit);
+
+        for (int i = 0; i < 40; i++) {
+            now = runWindow(limiter, limiter.getLimit(), 200 * MILLI, now);
+        }
+        int overloadedLimit = limiter.getLimit();
+        assertTrue(overloadedLimit < healthyLimit / 2);
+
+        for (int i = 0; i < 40; i++) {
+            now = runWindow(limiter, limiter.getLimit(), 10 * MILLI, now);
+        }
+        assertTrue(limiter.getLimit() > overloadedLimit);
+    }
+
+    @Test
+    void constructor_WithInvalidBounds_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(10, 0, 10, 0, 2.0, WINDOW, START));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(10, 20, 10, 0, 2.0, WINDOW, START));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(10, 1, 10, 0, 0.5, WINDOW, START));
+    }
+
+    /**
+     * Runs {@code concurrency} requests in parallel; the last one finishes at the end of the window and closes it.
+     */
+    private static long runWindow(AdaptiveConcurrencyLimiter limiter, int concurrency, long latency, long now) {
+        for (int i = 0; i < concurrency; i++) {
+            assertTrue(limiter.tryAcquire(false));
+        }
+        for (int i = 0; i < concurrency - 1; i++) {
+            limiter.release(latency, now);
+        }
+        limiter.release(latency, now + WINDOW);
+        return now + WINDOW;
+    }
+}
@@ -0,0 +1,106 @@
+package cz.pavel.taskmanagement.backend.unitTests;
+
+import cz.pavel.taskmanagement.backend.dto.auth.LoginRequest;
+import cz.pavel.taskmanagement.backend.dto.auth.LoginResponse;
+import cz.pavel.taskmanagement.backend.entity.Role;
+import cz.pavel.taskmanagement.backend.entity.User;
+import cz.pavel.taskmanagement.backend.repository.UserRepository;
+import cz.pavel.taskmanagement.backend.security.JwtUtil;
+import cz.pavel.taskmanagement.backend.security.PasswordHashingExecutor;
+import cz.pavel.taskmanagement.backend.security.TokenRevocationService;
+import cz.pavel.taskmanagement.backend.service.AuthService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthService Unit Tests")
+public class AuthServiceTest {
+
+    private static final String OLD_HASH = "$2a$04$legacylegacylegacylegacyuJ0XUq8pXHCoi3cYOwK2rQpM1lZ4Ge";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @InjectMocks
+    private AuthService authService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .id(7L)
+                .username("alice")
+                .email("alice@test.cz")
+                .password(OLD_HASH)
+                .role(Role.USER)
+                .build();
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        when(passwordHashingExecutor.matches("secret", OLD_HASH)).thenReturn(true);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void login_WithOutdatedHash_ShouldUpgradeInBackground() {
+        when(passwordEncoder.upgradeEncoding(OLD_HASH)).thenReturn(true);
+        ArgumentCaptor<Consumer<String>> onEncoded = ArgumentCaptor.forClass(Consumer.class);
+        when(passwordHashingExecutor.encodeInBackground(eq("secret"), onEncoded.capture())).thenReturn(true);
+
+        LoginResponse response = authService.login(new LoginRequest("alice", "secret"));
+
+        // The login returns before the new hash exists
+        assertEquals(7L, response.getUser().getId());
+        verify(passwordHashingExecutor, never()).encode(any());
+        verify(userRepository, never()).replacePassword(anyLong(), anyString(), anyString());
+
+        when(userRepository.replacePassword(7L, OLD_HASH, "{bcrypt}new")).thenReturn(1);
+        onEncoded.getValue().accept("{bcrypt}new");
+        verify(userRepository).replacePassword(7L, OLD_HASH, "{bcrypt}new");
+    }
+
+    @Test
+    void login_WithCurrentHash_ShouldNotRehash() {
+        when(passwordEncoder.upgradeEncoding(OLD_HASH)).thenReturn(false);
+
+        authService.login(new LoginRequest("alice", "secret"));
+
+        verify(passwordHashingExecutor, never()).encodeInBackground(any(), any());
+    }
+
+    @Test
+    void login_WhenHashingQueueIsBusy_ShouldSkipUpgradeAndStillSucceed() {
+        when(passwordEncoder.upgradeEncoding(OLD_HASH)).thenReturn(true);
+        when(passwordHashingExecutor.encodeInBackground(eq("secret"), any())).thenReturn(false);
+
+        LoginResponse response = authService.login(new LoginRequest("alice", "secret"));
+
+        assertNotNull(response);
+        verify(userRepository, never()).replacePassword(anyLong(), anyString(), anyString());
+    }
+}
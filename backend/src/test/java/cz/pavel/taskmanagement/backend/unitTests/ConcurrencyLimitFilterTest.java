@@ -0,0 +1,90 @@
+package cz.pavel.taskmanagement.backend.unitTests;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cz.pavel.taskmanagement.backend.dto.metrics.ConcurrencyLimitStatsDTO;
+import cz.pavel.taskmanagement.backend.security.ConcurrencyLimitFilter;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ConcurrencyLimitFilter Unit Tests")
+public class ConcurrencyLimitFilterTest {
+
+    private static final FilterChain SLOW_CHAIN = (request, response) -> {
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    };
+
+    @Test
+    void doFilter_OverLimit_ShouldReturn503WithRetryAfter() throws Exception {
+        ConcurrencyLimitFilter filter = filter(1, 0);
+        MockHttpServletResponse nested = new MockHttpServletResponse();
+
+        // The nested request arrives while the outer one still holds the only slot
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks"), new MockHttpServletResponse(),
+                (request, response) -> filter.doFilter(new MockHttpServletRequest("GET", "/api/projects"), nested, SLOW_CHAIN));
+
+        assertEquals(503, nested.getStatus());
+        assertEquals("1", nested.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(nested.getContentAsString().contains("/api/projects"));
+        assertEquals(1, filter.getStats().getRejected());
+        assertEquals(0, filter.getStats().getInFlight());
+    }
+
+    @Test
+    void doFilter_PriorityRequestOverLimit_ShouldUseHeadroom() throws Exception {
+        ConcurrencyLimitFilter filter = filter(1, 1);
+        MockHttpServletResponse nested = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks"), new MockHttpServletResponse(),
+                (request, response) -> filter.doFilter(new MockHttpServletRequest("GET", "/api/health"), nested, SLOW_CHAIN));
+
+        assertEquals(200, nested.getStatus());
+        assertEquals(0, filter.getStats().getRejected());
+    }
+
+    @Test
+    void doFilter_OutsideApi_ShouldNotTakeSlot() throws Exception {
+        ConcurrencyLimitFilter filter = filter(1, 0);
+        MockHttpServletResponse nested = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks"), new MockHttpServletResponse(),
+                (request, response) -> filter.doFilter(new MockHttpServletRequest("GET", "/swagger-ui/index.html"), nested, SLOW_CHAIN));
+
+        assertEquals(200, nested.getStatus());
+        assertEquals(1, filter.getStats().getAdmitted());
+    }
+
+    @Test
+    void doFilter_StreamingAndHashingRequests_ShouldNotBeSampled() throws Exception {
+        ConcurrencyLimitFilter filter = filter(10, 0);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks/export"), new MockHttpServletResponse(), SLOW_CHAIN);
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/auth/login"), new MockHttpServletResponse(), SLOW_CHAIN);
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/users"), new MockHttpServletResponse(), SLOW_CHAIN);
+        filter.doFilter(new MockHttpServletRequest("PUT", "/api/users/7"), new MockHttpServletResponse(), SLOW_CHAIN);
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/tasks/bulk"), new MockHttpServletResponse(), SLOW_CHAIN);
+
+        ConcurrencyLimitStatsDTO stats = filter.getStats();
+        assertEquals(5, stats.getAdmitted());
+        assertEquals(0, stats.getInFlight());
+        assertEquals(0.0, stats.getBaselineLatencyMillis());
+        assertEquals(0.0, stats.getRecentLatencyMillis());
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks"), new MockHttpServletResponse(), SLOW_CHAIN);
+
+        assertTrue(filter.getStats().getRecentLatencyMillis() > 0);
+    }
+
+    private static ConcurrencyLimitFilter filter(int limit, int priorityHeadroom) {
+        return new ConcurrencyLimitFilter(new ObjectMapper(), true, limit, 1, 200, priorityHeadroom, 2.0, 1);
+    }
+}
@@ -0,0 +1,219 @@
+package cz.pavel.taskmanagement.backend.unitTests;
+
+import cz.pavel.taskmanagement.backend.dto.task.TaskDue;
+import cz.pavel.taskmanagement.backend.entity.TaskStatus;
+import cz.pavel.taskmanagement.backend.event.TaskChangedEvent;
+import cz.pavel.taskmanagement.backend.event.TaskDueEvent;
+import cz.pavel.taskmanagement.backend.event.TasksBulkUpdatedEvent;
+import cz.pavel.taskmanagement.backend.event.TasksDeletedEvent;
+import cz.pavel.taskmanagement.backend.repository.TaskRepository;
+import cz.pavel.taskmanagement.backend.schedule.DueDateScheduler;
+import cz.pavel.taskmanagement.backend.schedule.TimingWheel;
+import cz.pavel.taskmanagement.backend.threads.BackgroundThreads;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DueDateScheduler Unit Tests")
+public class DueDateSchedulerTest {
+
+    private static final long TICK_MILLIS = 60_000;
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private DueDateScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new DueDateScheduler(taskRepository, eventPublisher, new BackgroundThreads(new MockEnvironment()));
+        ReflectionTestUtils.setField(scheduler, "enabled", true);
+        ReflectionTestUtils.setField(scheduler, "tickMillis", TICK_MILLIS);
+        ReflectionTestUtils.setField(scheduler, "dueSoonHours", 48L);
+        ReflectionTestUtils.setField(scheduler, "loadBatchSize", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void start_ShouldLoadOpenTasksInBatches() throws Exception {
+        when(taskRepository.findDueAfter(0L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(new TaskDue(1L, TODAY.plusDays(10)), new TaskDue(2L, TODAY.plusDays(20))));
+        when(taskRepository.findDueAfter(2L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(new TaskDue(3L, TODAY.plusDays(30))));
+
+        scheduler.start();
+        drainTicker();
+
+        assertEquals(3, scheduler.size());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void start_WithOverdueAndDueSoonTasks_ShouldPublishThemRightAway() throws Exception {
+        when(taskRepository.findDueAfter(0L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(new TaskDue(1L, TODAY.minusDays(1)), new TaskDue(2L, TODAY)));
+
+        scheduler.start();
+        drainTicker();
+
+        verify(eventPublisher).publishEvent(new TaskDueEvent(TaskDueEvent.Kind.OVERDUE, List.of(1L)));
+        verify(eventPublisher).publishEvent(new TaskDueEvent(TaskDueEvent.Kind.DUE_SOON, List.of(2L)));
+        assertEquals(2, scheduler.size());
+    }
+
+    @Test
+    void start_WhenDisabled_ShouldIgnoreChanges() {
+        ReflectionTestUtils.setField(scheduler, "enabled", false);
+
+        scheduler.start();
+        scheduler.onTaskChanged(saved(1L, TODAY.plusDays(5), TaskStatus.TODO));
+
+        assertEquals(0, scheduler.size());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void onTaskChanged_ShouldScheduleOpenTasksAndDropDoneOrDeletedOnes() throws Exception {
+        scheduler.start();
+        drainTicker();
+
+        scheduler.onTaskChanged(saved(1L, TODAY.plusDays(5), TaskStatus.TODO));
+        scheduler.onTaskChanged(saved(2L, TODAY.plusDays(5), TaskStatus.IN_PROGRESS));
+        scheduler.onTaskChanged(saved(3L, null, TaskStatus.TODO));
+        assertEquals(2, scheduler.size());
+
+        scheduler.onTaskChanged(saved(1L, TODAY.plusDays(5), TaskStatus.DONE));
+        scheduler.onTaskChanged(TaskChangedEvent.deleted(2L));
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    void onTaskChanged_WithPastDueDate_ShouldPublishOverdueOnTicker() throws Exception {
+        scheduler.start();
+        drainTicker();
+
+        scheduler.onTaskChanged(saved(1L, TODAY.minusDays(3), TaskStatus.TODO));
+        drainTicker();
+
+        verify(eventPublisher).publishEvent(new TaskDueEvent(TaskDueEvent.Kind.OVERDUE, List.of(1L)));
+    }
+
+    @Test
+    void onTaskChanged_DuringLoad_ShouldWinOverLoadedDueDate() throws Exception {
+        when(taskRepository.findDueAfter(0L, PageRequest.of(0, 2))).thenAnswer(invocation -> {
+            // Task completed while its stale row was being read
+            scheduler.onTaskChanged(saved(1L, TODAY.plusDays(5), TaskStatus.DONE));
+            return List.of(new TaskDue(1L, TODAY.plusDays(5)));
+        });
+
+        scheduler.start();
+        drainTicker();
+
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    void onTasksBulkUpdated_ShouldReloadTasksInBatches() throws Exception {
+        scheduler.start();
+        drainTicker();
+        scheduler.onTaskChanged(saved(1L, TODAY.plusDays(5), TaskStatus.TODO));
+        when(taskRepository.findDueByIdIn(List.of(1L, 2L))).thenReturn(List.of(new TaskDue(2L, TODAY.plusDays(7))));
+        when(taskRepository.findDueByIdIn(List.of(3L))).thenReturn(List.of(new TaskDue(3L, TODAY.minusDays(1))));
+
+        scheduler.onTasksBulkUpdated(new TasksBulkUpdatedEvent(List.of(1L, 2L, 3L)));
+        drainTicker();
+
+        // Task 1 was completed by the bulk update, 2 got a due date and 3 is already overdue
+        assertEquals(2, scheduler.size());
+        verify(eventPublisher).publishEvent(new TaskDueEvent(TaskDueEvent.Kind.OVERDUE, List.of(3L)));
+    }
+
+    @Test
+    void onTasksDeleted_ShouldUnscheduleTasks() throws Exception {
+        scheduler.start();
+        drainTicker();
+        scheduler.onTaskChanged(saved(1L, TODAY.plusDays(5), TaskStatus.TODO));
+        scheduler.onTaskChanged(saved(2L, TODAY.plusDays(5), TaskStatus.TODO));
+
+        scheduler.onTasksDeleted(new TasksDeletedEvent(List.of(1L, 3L)));
+
+        assertEquals(1, scheduler.size());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void tick_ShouldFireExpiredTimersAndSkipStaleOnes() {
+        // A wheel started three days ago lets timers for past due dates be scheduled instead of fired
+        long now = System.currentTimeMillis() / TICK_MILLIS;
+        ReflectionTestUtils.setField(scheduler, "wheel", new TimingWheel<>(now - TimeUnit.DAYS.toMillis(3) / TICK_MILLIS));
+        ReflectionTestUtils.setField(scheduler, "ticker", Executors.newSingleThreadScheduledExecutor());
+        scheduler.onTaskChanged(saved(1L, TODAY.minusDays(1), TaskStatus.TODO));
+        scheduler.onTaskChanged(saved(2L, TODAY.minusDays(1), TaskStatus.TODO));
+        scheduler.onTaskChanged(saved(2L, TODAY.plusDays(10), TaskStatus.TODO));
+        scheduler.onTaskChanged(saved(3L, TODAY.minusDays(1), TaskStatus.TODO));
+        scheduler.onTaskChanged(TaskChangedEvent.deleted(3L));
+
+        ReflectionTestUtils.invokeMethod(scheduler, "tick");
+
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertEquals(List.of(new TaskDueEvent(TaskDueEvent.Kind.DUE_SOON, List.of(1L)),
+                new TaskDueEvent(TaskDueEvent.Kind.OVERDUE, List.of(1L))), events.getAllValues());
+    }
+
+    @Test
+    void tick_AfterReopeningWithSameDueDate_ShouldFireOnce() {
+        long now = System.currentTimeMillis() / TICK_MILLIS;
+        ReflectionTestUtils.setField(scheduler, "wheel", new TimingWheel<>(now - TimeUnit.DAYS.toMillis(3) / TICK_MILLIS));
+        ReflectionTestUtils.setField(scheduler, "ticker", Executors.newSingleThreadScheduledExecutor());
+        scheduler.onTaskChanged(saved(1L, TODAY.minusDays(1), TaskStatus.TODO));
+        scheduler.onTaskChanged(saved(1L, TODAY.minusDays(1), TaskStatus.DONE));
+        // Reopened before the first timers expired, they must not fire next to the new ones
+        scheduler.onTaskChanged(saved(1L, TODAY.minusDays(1), TaskStatus.TODO));
+
+        ReflectionTestUtils.invokeMethod(scheduler, "tick");
+
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertEquals(List.of(new TaskDueEvent(TaskDueEvent.Kind.DUE_SOON, List.of(1L)),
+                new TaskDueEvent(TaskDueEvent.Kind.OVERDUE, List.of(1L))), events.getAllValues());
+    }
+
+    private static TaskChangedEvent saved(Long id, LocalDate dueDate, TaskStatus status) {
+        return new TaskChangedEvent(id, TaskChangedEvent.ChangeType.SAVED, "Task " + id, null, dueDate, status);
+    }
+
+    // The ticker runs work in order, so an empty task queued last completes after everything before it
+    private void drainTicker() throws Exception {
+        ScheduledExecutorService ticker = (ScheduledExecutorService) ReflectionTestUtils.getField(scheduler, "ticker");
+        ticker.submit(() -> {
+        }).get(5, TimeUnit.SECONDS);
+    }
+}
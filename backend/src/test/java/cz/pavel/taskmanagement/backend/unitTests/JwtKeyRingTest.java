@@ -0,0 +1,74 @@
+package cz.pavel.taskmanagement.backend.unitTests;
+
+import cz.pavel.taskmanagement.backend.security.JwtKeyRing;
+import cz.pavel.taskmanagement.backend.security.JwtUtil;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JwtKeyRing Unit Tests")
+public class JwtKeyRingTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void init_WithoutFile_ShouldCreateKeyFileSharedByOtherInstances() throws Exception {
+        Path file = dir.resolve("keys/jwt-keys");
+        JwtKeyRing first = ring(file);
+        JwtKeyRing second = ring(file);
+
+        assertTrue(Files.exists(file));
+        assertEquals(first.signingKey().id(), second.signingKey().id());
+
+        String token = new JwtUtil(first, 10).generateAccessToken("admin", 1L, "ADMIN", 0);
+        assertEquals("admin", new JwtUtil(second, 10).verify(token).username());
+
+        first.shutdown();
+        second.shutdown();
+    }
+
+    @Test
+    void signingKey_ShouldUseNewestActiveKeyAndRetireOldOnes() throws Exception {
+        Instant now = Instant.now();
+        Path file = dir.resolve("jwt-keys");
+        Files.write(file, List.of(
+                "# kid not-before secret",
+                line("retired", now.minus(Duration.ofDays(20))),
+                line("previous", now.minus(Duration.ofDays(10))),
+                line("active", now.minus(Duration.ofDays(1))),
+                line("upcoming", now.plus(Duration.ofHours(1)))));
+
+        JwtKeyRing ring = ring(file);
+
+        assertEquals("active", ring.signingKey().id());
+        assertThrows(SignatureException.class, () -> ring.verificationKey("retired"));
+        assertNotNull(ring.verificationKey("previous"));
+        assertNotNull(ring.verificationKey("upcoming"));
+        assertThrows(SignatureException.class, () -> ring.verificationKey("unknown"));
+
+        ring.shutdown();
+    }
+
+    private static JwtKeyRing ring(Path file) {
+        JwtKeyRing ring = new JwtKeyRing(file.toString(), Duration.ofDays(8), Duration.ofDays(30), 60);
+        ring.init();
+        return ring;
+    }
+
+    private static String line(String kid, Instant notBefore) {
+        byte[] secret = new byte[32];
+        secret[0] = (byte) kid.hashCode();
+        return kid + " " + notBefore + " " + Base64.getEncoder().encodeToString(secret);
+    }
+}
@@ -0,0 +1,80 @@
+package cz.pavel.taskmanagement.backend.unitTests;
+
+import cz.pavel.taskmanagement.backend.security.JwtClaims;
+import cz.pavel.taskmanagement.backend.security.JwtKeyRing;
+import cz.pavel.taskmanagement.backend.security.JwtUtil;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JwtUtil Unit Tests")
+public class JwtUtilTest {
+
+    private final JwtUtil jwtUtil = new JwtUtil(JwtKeyRing.ephemeral(), 2);
+
+    @Test
+    void verify_AccessToken_ShouldReturnAllClaims() {
+        String token = jwtUtil.generateAccessToken("admin", 7L, "ADMIN", 0);
+
+        JwtClaims claims = jwtUtil.verify(token);
+
+        assertEquals("admin", claims.username());
+        assertEquals(7L, claims.userId());
+        assertEquals("ADMIN", claims.role());
+        assertEquals("ACCESS", claims.tokenType());
+        assertEquals(0, claims.tokenVersion());
+        assertNotNull(claims.expiresAt());
+    }
+
+    @Test
+    void verify_RefreshToken_ShouldCarryIdAndVersion() {
+        String first = jwtUtil.generateRefreshToken("admin", 7L, 3);
+        String second = jwtUtil.generateRefreshToken("admin", 7L, 3);
+
+        JwtClaims claims = jwtUtil.verify(first);
+
+        assertEquals("REFRESH", claims.tokenType());
+        assertEquals(7L, claims.userId());
+        assertEquals(3, claims.tokenVersion());
+        assertNotNull(claims.tokenId());
+        assertNotEquals(claims.tokenId(), jwtUtil.verify(second).tokenId());
+    }
+
+    @Test
+    void verify_SameTokenTwice_ShouldReuseVerifiedClaims() {
+        String token = jwtUtil.generateAccessToken("admin", 7L, "ADMIN", 0);
+
+        assertSame(jwtUtil.verify(token), jwtUtil.verify(token));
+    }
+
+    @Test
+    void verify_TamperedToken_ShouldThrow() {
+        String token = jwtUtil.generateAccessToken("admin", 7L, "ADMIN", 0);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtUtil.verify(tampered));
+        assertFalse(jwtUtil.validateToken(tampered));
+    }
+
+    @Test
+    void verify_TokenFromOtherKey_ShouldThrow() {
+        String foreign = new JwtUtil(JwtKeyRing.ephemeral(), 2).generateAccessToken("admin", 7L, "ADMIN", 0);
+
+        assertThrows(JwtException.class, () -> jwtUtil.verify(foreign));
+    }
+
+    @Test
+    void verify_MoreTokensThanCacheSize_ShouldStillVerifyEach() {
+        String first = jwtUtil.generateAccessToken("a", 1L, "USER", 0);
+        String second = jwtUtil.generateRefreshToken("b", 2L, 0);
+        String third = jwtUtil.generateAccessToken("c", 3L, "USER", 0);
+
+        assertEquals("a", jwtUtil.verify(first).username());
+        assertEquals("b", jwtUtil.verify(second).username());
+        assertEquals("c", jwtUtil.verify(third).username());
+        assertTrue(jwtUtil.validateRefreshToken(second));
+        assertFalse(jwtUtil.validateRefreshToken(first));
+    }
+}
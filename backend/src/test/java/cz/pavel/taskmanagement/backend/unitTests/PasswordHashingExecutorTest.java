@@ -0,0 +1,117 @@
+package cz.pavel.taskmanagement.backend.unitTests;
+
+import cz.pavel.taskmanagement.backend.exception.OverloadExceptionHandler;
+import cz.pavel.taskmanagement.backend.exception.ServiceOverloadedException;
+import cz.pavel.taskmanagement.backend.security.PasswordHashingExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PasswordHashingExecutor Unit Tests")
+public class PasswordHashingExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void encode_WhenIdle_ShouldReturnHash() {
+        release.countDown();
+        executor = new PasswordHashingExecutor(new BlockingEncoder(), 1, 4, 5000);
+
+        assertEquals("hashed:secret", executor.encode("secret"));
+        assertTrue(executor.matches("secret", "hashed:secret"));
+    }
+
+    @Test
+    void encode_WhenQueueIsFull_ShouldThrowOverloadedAndAnswer503WithRetryAfter() {
+        executor = new PasswordHashingExecutor(new BlockingEncoder(), 1, 1, 5000);
+
+        // One hash occupies the only thread, a second one the only queue slot
+        CompletableFuture.runAsync(() -> executor.encode("first"));
+        awaitCondition(() -> executor.getStats().getActive() == 1);
+        CompletableFuture.runAsync(() -> executor.encode("second"));
+        awaitCondition(() -> executor.getStats().getQueued() == 1);
+
+        ServiceOverloadedException exception =
+                assertThrows(ServiceOverloadedException.class, () -> executor.encode("third"));
+        assertEquals(1, exception.getRetryAfterSeconds());
+        assertEquals(1, executor.getStats().getRejected());
+
+        ResponseEntity<Map<String, Object>> response = new OverloadExceptionHandler().handleServiceOverloaded(exception);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void matches_WhenHashingTakesLongerThanTimeout_ShouldThrowOverloaded() {
+        executor = new PasswordHashingExecutor(new BlockingEncoder(), 1, 4, 50);
+
+        assertThrows(ServiceOverloadedException.class, () -> executor.matches("secret", "hashed:secret"));
+        assertEquals(1, executor.getStats().getTimedOut());
+    }
+
+    @Test
+    void encodeInBackground_WhenQueueIsHalfFull_ShouldDropWork() {
+        executor = new PasswordHashingExecutor(new BlockingEncoder(), 1, 2, 5000);
+
+        assertTrue(executor.encodeInBackground("first", hash -> { }));
+        awaitCondition(() -> executor.getStats().getActive() == 1);
+        assertTrue(executor.encodeInBackground("second", hash -> { }));
+
+        assertFalse(executor.encodeInBackground("third", hash -> { }));
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Condition not reached in time");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    // Blocks every hash until the test releases it
+    private class BlockingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return encodedPassword.equals("hashed:" + rawPassword);
+        }
+
+        private void await() {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
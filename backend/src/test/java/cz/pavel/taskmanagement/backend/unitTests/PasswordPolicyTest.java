@@ -0,0 +1,48 @@
+package cz.pavel.taskmanagement.backend.unitTests;
+
+import cz.pavel.taskmanagement.backend.security.PasswordPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PasswordPolicy Unit Tests")
+public class PasswordPolicyTest {
+
+    private final PasswordPolicy policy = new PasswordPolicy(5, 0);
+    private final PasswordEncoder encoder = policy.encoder();
+
+    @Test
+    void encode_ShouldUsePrefixedBcryptAtPolicyCost() {
+        String hash = encoder.encode("secret");
+
+        assertTrue(hash.startsWith("{bcrypt}$2a$05$"));
+        assertTrue(encoder.matches("secret", hash));
+        assertFalse(encoder.upgradeEncoding(hash));
+        assertFalse(policy.isWrappable(hash));
+    }
+
+    @Test
+    void matches_LegacyUnprefixedHash_ShouldWorkAndAskForUpgrade() {
+        String legacy = new BCryptPasswordEncoder(4).encode("secret");
+
+        assertTrue(encoder.matches("secret", legacy));
+        assertTrue(encoder.upgradeEncoding(legacy));
+        assertTrue(policy.isWrappable(legacy));
+    }
+
+    @Test
+    void wrap_ShouldKeepPasswordValidWithoutKnowingIt() {
+        String legacy = new BCryptPasswordEncoder(4).encode("secret");
+
+        String wrapped = policy.wrap(legacy);
+
+        assertTrue(wrapped.startsWith("{bcrypt-wrapped}"));
+        assertTrue(encoder.matches("secret", wrapped));
+        assertFalse(encoder.matches("wrong", wrapped));
+        assertTrue(encoder.upgradeEncoding(wrapped));
+        assertFalse(policy.isWrappable(wrapped));
+    }
+}
@@ -0,0 +1,98 @@
+package cz.pavel.taskmanagement.backend.unitTests;
+
+import cz.pavel.taskmanagement.backend.dto.user.UserPassword;
+import cz.pavel.taskmanagement.backend.job.Job;
+import cz.pavel.taskmanagement.backend.job.JobRegistry;
+import cz.pavel.taskmanagement.backend.repository.UserRepository;
+import cz.pavel.taskmanagement.backend.security.PasswordPolicy;
+import cz.pavel.taskmanagement.backend.service.PasswordRehashService;
+import cz.pavel.taskmanagement.backend.threads.BackgroundThreads;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PasswordRehashService Unit Tests")
+public class PasswordRehashServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private JobRegistry jobRegistry;
+
+    @Mock
+    private BackgroundThreads backgroundThreads;
+
+    private final PasswordPolicy passwordPolicy = new PasswordPolicy(5, 0);
+    private PasswordRehashService service;
+
+    @BeforeEach
+    void setUp() {
+        when(backgroundThreads.factory("password-rehash")).thenReturn(Thread::new);
+        service = new PasswordRehashService(userRepository, passwordPolicy, transactionTemplate, jobRegistry, backgroundThreads);
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+        ReflectionTestUtils.setField(service, "pauseMillis", 0L);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rehashPasswords_ShouldWrapOnlyOutdatedHashesOnItsOwnExecutor() {
+        String legacyFirst = new BCryptPasswordEncoder(4).encode("first");
+        String current = passwordPolicy.encoder().encode("second");
+        String legacyThird = new BCryptPasswordEncoder(4).encode("third");
+
+        Job job = new Job(PasswordRehashService.JOB_TYPE, null);
+        when(jobRegistry.create(PasswordRehashService.JOB_TYPE, null)).thenReturn(job);
+        doAnswer(invocation -> {
+            invocation.<Consumer<Job>>getArgument(1).accept(job);
+            return null;
+        }).when(jobRegistry).run(eq(job), any(Consumer.class), any(Executor.class));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        when(userRepository.count()).thenReturn(3L);
+        when(userRepository.findPasswordsAfter(0L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(new UserPassword(1L, legacyFirst), new UserPassword(2L, current)));
+        when(userRepository.findPasswordsAfter(2L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(new UserPassword(3L, legacyThird)));
+        when(userRepository.findPasswordsAfter(3L, PageRequest.of(0, 2)))
+                .thenReturn(List.of());
+        when(userRepository.replacePassword(anyLong(), anyString(), anyString())).thenReturn(1);
+
+        service.rehashPasswords();
+
+        verify(userRepository).replacePassword(eq(1L), eq(legacyFirst), startsWith("{bcrypt-wrapped}"));
+        verify(userRepository).replacePassword(eq(3L), eq(legacyThird), startsWith("{bcrypt-wrapped}"));
+        verify(userRepository, never()).replacePassword(eq(2L), anyString(), anyString());
+        verify(jobRegistry, never()).run(any(Job.class), any(Consumer.class));
+        assertEquals(3, job.getTotal());
+        assertEquals(3, job.getProcessed().get());
+    }
+}
@@ -0,0 +1,117 @@
+package cz.pavel.taskmanagement.backend.unitTests;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cz.pavel.taskmanagement.backend.security.JwtKeyRing;
+import cz.pavel.taskmanagement.backend.security.JwtUtil;
+import cz.pavel.taskmanagement.backend.security.RateLimitFilter;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RateLimitFilter Unit Tests")
+public class RateLimitFilterTest {
+
+    private static final FilterChain CHAIN = (request, response) -> { };
+
+    private final JwtUtil jwtUtil = new JwtUtil(JwtKeyRing.ephemeral(), 100);
+    private final String aliceToken = jwtUtil.generateAccessToken("alice", 1L, "USER", 0);
+    private final String bobToken = jwtUtil.generateAccessToken("bob", 2L, "USER", 0);
+
+    // One request per endpoint class, then the next token is 100 s away
+    private final RateLimitFilter filter = new RateLimitFilter(new ObjectMapper(), jwtUtil, true, 100,
+            0.01, 1, 0.01, 1, 0.01, 1, 0.01, 1);
+
+    @Test
+    void doFilter_OverBurst_ShouldReturn429WithRetryAfter() throws Exception {
+        assertEquals(200, perform("GET", "/api/projects", "10.0.0.1", aliceToken).getStatus());
+
+        MockHttpServletResponse rejected = perform("GET", "/api/projects", "10.0.0.1", aliceToken);
+
+        assertEquals(429, rejected.getStatus());
+        assertEquals("100", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(rejected.getContentAsString().contains("/api/projects"));
+    }
+
+    @Test
+    void doFilter_ShouldKeepAuthClientsApartByAddress() throws Exception {
+        assertEquals(200, perform("POST", "/api/auth/login", "10.0.0.1", null).getStatus());
+        assertEquals(429, perform("POST", "/api/auth/login", "10.0.0.1", null).getStatus());
+
+        assertEquals(200, perform("POST", "/api/auth/login", "10.0.0.2", null).getStatus());
+    }
+
+    @Test
+    void doFilter_WithToken_ShouldKeyByUserInsteadOfAddress() throws Exception {
+        assertEquals(200, perform("GET", "/api/projects", "10.0.0.1", aliceToken).getStatus());
+        // Same user from another address shares the budget, another user behind the same address does not
+        assertEquals(429, perform("GET", "/api/projects", "10.0.0.2", aliceToken).getStatus());
+        assertEquals(200, perform("GET", "/api/projects", "10.0.0.1", bobToken).getStatus());
+    }
+
+    @Test
+    void doFilter_WithoutValidToken_ShouldChargeAuthBudgetOfAddress() throws Exception {
+        assertEquals(200, perform("GET", "/api/projects", "10.0.0.1", "not-a-token").getStatus());
+        assertEquals(429, perform("POST", "/api/auth/login", "10.0.0.1", null).getStatus());
+        assertEquals(429, perform("GET", "/api/projects", "10.0.0.1", null).getStatus());
+
+        assertEquals(200, perform("GET", "/api/projects", "10.0.0.1", aliceToken).getStatus());
+    }
+
+    @Test
+    void doFilter_ShouldKeepEndpointClassesApart() throws Exception {
+        assertEquals(200, perform("GET", "/api/tasks", "10.0.0.1", aliceToken).getStatus());
+        assertEquals(429, perform("GET", "/api/tasks/export", "10.0.0.1", aliceToken).getStatus());
+
+        assertEquals(200, perform("GET", "/api/tasks/7", "10.0.0.1", aliceToken).getStatus());
+        assertEquals(200, perform("PUT", "/api/tasks/7", "10.0.0.1", aliceToken).getStatus());
+        assertEquals(200, perform("POST", "/api/auth/refresh", "10.0.0.1", null).getStatus());
+    }
+
+    @Test
+    void doFilter_CreatingTask_ShouldCountAsWriteNotHeavy() throws Exception {
+        assertEquals(200, perform("POST", "/api/tasks", "10.0.0.1", aliceToken).getStatus());
+        assertEquals(200, perform("GET", "/api/tasks", "10.0.0.1", aliceToken).getStatus());
+        assertEquals(429, perform("PATCH", "/api/tasks/7", "10.0.0.1", aliceToken).getStatus());
+    }
+
+    @Test
+    void doFilter_HealthAndNonApiPaths_ShouldNotBeLimited() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, perform("GET", "/api/health", "10.0.0.1", null).getStatus());
+            assertEquals(200, perform("GET", "/swagger-ui/index.html", "10.0.0.1", null).getStatus());
+        }
+    }
+
+    @Test
+    void doFilter_WhenDisabled_ShouldPassEverything() throws Exception {
+        RateLimitFilter disabled = new RateLimitFilter(new ObjectMapper(), jwtUtil, false, 100,
+                0.01, 1, 0.01, 1, 0.01, 1, 0.01, 1);
+
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            disabled.doFilter(request("GET", "/api/projects", "10.0.0.1", null), response, CHAIN);
+            assertEquals(200, response.getStatus());
+        }
+    }
+
+    private MockHttpServletResponse perform(String method, String path, String remoteAddr, String token)
+            throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(method, path, remoteAddr, token), response, CHAIN);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String path, String remoteAddr, String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr(remoteAddr);
+        if (token != null) {
+            request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,51 @@
+package cz.pavel.taskmanagement.backend.unitTests;
+
+import cz.pavel.taskmanagement.backend.entity.Recurrence;
+import cz.pavel.taskmanagement.backend.entity.TaskTemplate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Recurrence Unit Tests")
+public class RecurrenceTest {
+
+    @Test
+    void occurrence_Monthly_ShouldClampToMonthEndWithoutDrifting() {
+        LocalDate start = LocalDate.of(2025, 1, 31);
+
+        assertEquals(LocalDate.of(2025, 2, 28), Recurrence.MONTHLY.occurrence(start, 1, 1));
+        assertEquals(LocalDate.of(2025, 3, 31), Recurrence.MONTHLY.occurrence(start, 1, 2));
+        assertEquals(LocalDate.of(2025, 7, 31), Recurrence.MONTHLY.occurrence(start, 2, 3));
+    }
+
+    @Test
+    void firstOnOrAfter_ShouldSkipPastOccurrences() {
+        LocalDate start = LocalDate.of(2025, 1, 6);
+
+        assertEquals(0, Recurrence.WEEKLY.firstOnOrAfter(start, 1, LocalDate.of(2024, 12, 1)));
+        assertEquals(2, Recurrence.WEEKLY.firstOnOrAfter(start, 1, LocalDate.of(2025, 1, 20)));
+        assertEquals(3, Recurrence.WEEKLY.firstOnOrAfter(start, 1, LocalDate.of(2025, 1, 21)));
+        assertEquals(2, Recurrence.MONTHLY.firstOnOrAfter(LocalDate.of(2025, 1, 31), 1, LocalDate.of(2025, 3, 1)));
+        assertEquals(2, Recurrence.DAILY.firstOnOrAfter(start, 3, LocalDate.of(2025, 1, 11)));
+    }
+
+    @Test
+    void advance_ShouldStopAfterEndDate() {
+        TaskTemplate template = new TaskTemplate();
+        template.setRecurrence(Recurrence.DAILY);
+        template.setInterval(1);
+        template.setStartDate(LocalDate.of(2025, 1, 1));
+        template.setEndDate(LocalDate.of(2025, 1, 2));
+        template.setNextOccurrence(LocalDate.of(2025, 1, 1));
+
+        template.advance();
+        assertEquals(LocalDate.of(2025, 1, 2), template.getNextOccurrence());
+
+        template.advance();
+        assertNull(template.getNextOccurrence());
+        assertEquals(2, template.getOccurrences());
+    }
+}
@@ -0,0 +1,223 @@
+package cz.pavel.taskmanagement.backend.unitTests;
+
+import cz.pavel.taskmanagement.backend.dto.template.TemplateSchedule;
+import cz.pavel.taskmanagement.backend.entity.Project;
+import cz.pavel.taskmanagement.backend.entity.Recurrence;
+import cz.pavel.taskmanagement.backend.entity.TaskTemplate;
+import cz.pavel.taskmanagement.backend.event.TaskChangedEvent;
+import cz.pavel.taskmanagement.backend.event.TaskTemplateChangedEvent;
+import cz.pavel.taskmanagement.backend.repository.ProjectRepository;
+import cz.pavel.taskmanagement.backend.repository.TaskRepository;
+import cz.pavel.taskmanagement.backend.repository.TaskTemplateRepository;
+import cz.pavel.taskmanagement.backend.schedule.RecurringTaskGenerator;
+import cz.pavel.taskmanagement.backend.threads.BackgroundThreads;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecurringTaskGenerator Unit Tests")
+public class RecurringTaskGeneratorTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Mock
+    private TaskTemplateRepository taskTemplateRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private RecurringTaskGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        generator = new RecurringTaskGenerator(taskTemplateRepository, taskRepository, projectRepository,
+                transactionTemplate, eventPublisher, new BackgroundThreads(new MockEnvironment()));
+        ReflectionTestUtils.setField(generator, "enabled", true);
+        ReflectionTestUtils.setField(generator, "leadDays", 2);
+        ReflectionTestUtils.setField(generator, "batchSize", 1);
+        ReflectionTestUtils.setField(generator, "maxPerTick", 10);
+        // Load and tick are driven from the test thread instead of the ticker
+        ReflectionTestUtils.setField(generator, "running", true);
+    }
+
+    @Test
+    void onTemplateChanged_BeforeStart_ShouldBeIgnored() {
+        ReflectionTestUtils.setField(generator, "running", false);
+
+        generator.onTemplateChanged(new TaskTemplateChangedEvent(1L, TODAY));
+
+        assertEquals(0, generator.size());
+    }
+
+    @Test
+    void load_ShouldScheduleTemplatesWithNextOccurrence() {
+        when(taskTemplateRepository.findScheduleAfter(0L, PageRequest.of(0, 10)))
+                .thenReturn(List.of(new TemplateSchedule(1L, TODAY), new TemplateSchedule(2L, TODAY.plusDays(30))));
+
+        ReflectionTestUtils.invokeMethod(generator, "load");
+
+        assertEquals(2, generator.size());
+    }
+
+    @Test
+    void load_ShouldKeepTemplatesChangedDuringLoad() {
+        ReflectionTestUtils.setField(generator, "loading", true);
+        when(taskTemplateRepository.findScheduleAfter(0L, PageRequest.of(0, 10))).thenAnswer(invocation -> {
+            // Template deleted while its stale row was being read
+            generator.onTemplateChanged(new TaskTemplateChangedEvent(1L, null));
+            return List.of(new TemplateSchedule(1L, TODAY));
+        });
+
+        ReflectionTestUtils.invokeMethod(generator, "load");
+
+        assertEquals(0, generator.size());
+    }
+
+    @Test
+    void tick_ShouldCreateTasksForOccurrencesWithinLeadDays() {
+        inTransaction();
+        TaskTemplate template = template(1L, TODAY.minusDays(1), project(false));
+        when(taskTemplateRepository.findByIdIn(List.of(1L))).thenReturn(List.of(template));
+        when(taskTemplateRepository.claimOccurrences(eq(1L), eq(template.getOccurrences()), eq(TODAY),
+                eq(template.getOccurrences() + 3), eq(TODAY.plusDays(3)), any())).thenReturn(1);
+        generator.onTemplateChanged(new TaskTemplateChangedEvent(1L, template.getNextOccurrence()));
+        generator.onTemplateChanged(new TaskTemplateChangedEvent(2L, TODAY.plusDays(30)));
+
+        ReflectionTestUtils.invokeMethod(generator, "tick");
+
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(3)).publishEvent(events.capture());
+        assertEquals(List.of(TODAY, TODAY.plusDays(1), TODAY.plusDays(2)), events.getAllValues().stream()
+                .map(event -> ((TaskChangedEvent) event).dueDate())
+                .toList());
+        assertEquals(TODAY.plusDays(3), template.getNextOccurrence());
+        assertEquals(2, generator.size());
+
+        // The next occurrence is outside the lead window until tomorrow
+        ReflectionTestUtils.invokeMethod(generator, "tick");
+        verify(taskTemplateRepository, times(1)).findByIdIn(any());
+    }
+
+    @Test
+    void tick_WithDeletedProject_ShouldDropTemplate() {
+        inTransaction();
+        TaskTemplate template = template(1L, TODAY, project(true));
+        when(taskTemplateRepository.findByIdIn(List.of(1L))).thenReturn(List.of(template));
+        generator.onTemplateChanged(new TaskTemplateChangedEvent(1L, template.getNextOccurrence()));
+
+        ReflectionTestUtils.invokeMethod(generator, "tick");
+
+        verifyNoInteractions(eventPublisher);
+        assertEquals(0, generator.size());
+    }
+
+    @Test
+    void tick_WhenMaterializingFails_ShouldRetryOnNextTick() {
+        inTransaction();
+        TaskTemplate template = template(1L, TODAY, project(false));
+        when(taskTemplateRepository.findByIdIn(List.of(1L)))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(List.of(template));
+        when(taskTemplateRepository.claimOccurrences(eq(1L), anyLong(), any(), anyLong(), any(), any())).thenReturn(1);
+        generator.onTemplateChanged(new TaskTemplateChangedEvent(1L, template.getNextOccurrence()));
+
+        ReflectionTestUtils.invokeMethod(generator, "tick");
+        verifyNoInteractions(eventPublisher);
+
+        ReflectionTestUtils.invokeMethod(generator, "tick");
+        verify(eventPublisher, times(3)).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    void tick_WhenAnotherInstanceClaimedOccurrences_ShouldSkipTemplateAndFollowItsSchedule() {
+        inTransaction();
+        TaskTemplate template = template(1L, TODAY, project(false));
+        when(taskTemplateRepository.findByIdIn(List.of(1L))).thenReturn(List.of(template));
+        when(taskTemplateRepository.claimOccurrences(eq(1L), anyLong(), any(), anyLong(), any(), any())).thenReturn(0);
+        when(taskTemplateRepository.findScheduleByIdIn(List.of(1L)))
+                .thenReturn(List.of(new TemplateSchedule(1L, TODAY.plusDays(3))));
+        generator.onTemplateChanged(new TaskTemplateChangedEvent(1L, template.getNextOccurrence()));
+
+        ReflectionTestUtils.invokeMethod(generator, "tick");
+
+        verifyNoInteractions(eventPublisher);
+        verify(taskRepository).saveAll(List.of());
+        assertEquals(1, generator.size());
+
+        // Rescheduled where the other instance left it, outside the lead window
+        ReflectionTestUtils.invokeMethod(generator, "tick");
+        verify(taskTemplateRepository, times(1)).findByIdIn(any());
+    }
+
+    @Test
+    void tick_ShouldSkipUnscheduledAndStaleEntries() {
+        generator.onTemplateChanged(new TaskTemplateChangedEvent(1L, TODAY));
+        generator.onTemplateChanged(new TaskTemplateChangedEvent(1L, null));
+        generator.onTemplateChanged(new TaskTemplateChangedEvent(2L, TODAY));
+        generator.onTemplateChanged(new TaskTemplateChangedEvent(2L, TODAY.plusDays(30)));
+
+        ReflectionTestUtils.invokeMethod(generator, "tick");
+
+        verifyNoInteractions(transactionTemplate, taskTemplateRepository);
+        assertEquals(1, generator.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void inTransaction() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private static Project project(boolean deleted) {
+        Project project = new Project();
+        project.setId(10L);
+        project.setName("Test Project");
+        project.setDeleted(deleted);
+        return project;
+    }
+
+    private static TaskTemplate template(Long id, LocalDate startDate, Project project) {
+        TaskTemplate template = new TaskTemplate();
+        template.setId(id);
+        template.setTitle("Daily standup");
+        template.setProject(project);
+        template.setRecurrence(Recurrence.DAILY);
+        template.setStartDate(startDate);
+        long first = Recurrence.DAILY.firstOnOrAfter(startDate, 1, TODAY);
+        template.setOccurrences(first);
+        template.setNextOccurrence(Recurrence.DAILY.occurrence(startDate, 1, first));
+        return template;
+    }
+}
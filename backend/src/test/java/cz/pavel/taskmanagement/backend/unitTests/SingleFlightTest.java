@@ -0,0 +1,96 @@
+package cz.pavel.taskmanagement.backend.unitTests;
+
+import cz.pavel.taskmanagement.backend.coalesce.SingleFlight;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SingleFlight Unit Tests")
+public class SingleFlightTest {
+
+    @Test
+    void execute_WithConcurrentIdenticalCalls_ShouldComputeOnce() throws Exception {
+        SingleFlight<String> flights = new SingleFlight<>();
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    try {
+                        return flights.execute("projects", () -> {
+                            computations.incrementAndGet();
+                            release.await();
+                            return List.of("shared");
+                        });
+                    } catch (Throwable e) {
+                        throw new AssertionError(e);
+                    }
+                }));
+            }
+
+            // Wait until every caller either computes or waits for the computation
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (flights.getExecuted() + flights.getCoalesced() < 8 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            Object first = results.getFirst().get(5, TimeUnit.SECONDS);
+            for (Future<Object> result : results) {
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, computations.get());
+            assertEquals(7, flights.getCoalesced());
+            assertEquals(0, flights.getInFlight());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_AfterFlightFinished_ShouldComputeAgain() throws Throwable {
+        SingleFlight<String> flights = new SingleFlight<>();
+        AtomicInteger computations = new AtomicInteger();
+
+        assertEquals(1, flights.execute("tasks", computations::incrementAndGet));
+        assertEquals(2, flights.execute("tasks", computations::incrementAndGet));
+        assertEquals(0, flights.getCoalesced());
+    }
+
+    @Test
+    void execute_WithDifferentKeys_ShouldNotShare() throws Throwable {
+        SingleFlight<String> flights = new SingleFlight<>();
+
+        Object outer = flights.execute("project-1", () -> flights.execute("project-2", () -> "inner") + "-outer");
+
+        assertEquals("inner-outer", outer);
+        assertEquals(2, flights.getExecuted());
+    }
+
+    @Test
+    void execute_WhenComputationFails_ShouldRethrowAndForgetFlight() {
+        SingleFlight<String> flights = new SingleFlight<>();
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> flights.execute("projects", () -> {
+                    throw failure;
+                }));
+
+        assertSame(failure, thrown);
+        assertEquals(0, flights.getInFlight());
+    }
+}
@@ -0,0 +1,71 @@
+package cz.pavel.taskmanagement.backend.unitTests;
+
+import cz.pavel.taskmanagement.backend.dto.task.TaskSummary;
+import cz.pavel.taskmanagement.backend.entity.Priority;
+import cz.pavel.taskmanagement.backend.entity.TaskStatus;
+import cz.pavel.taskmanagement.backend.repository.TaskCursor;
+import cz.pavel.taskmanagement.backend.repository.TaskSort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskCursor Unit Tests")
+public class TaskCursorTest {
+
+    private static TaskSummary task(long id, Priority priority, LocalDate dueDate) {
+        return new TaskSummary(id, "Task " + id, null, TaskStatus.TODO, priority, dueDate,
+                1L, "Project", null, null, null, null, null, null, null, null);
+    }
+
+    @Test
+    void encodeDecode_ShouldRoundTrip() {
+        TaskSummary task = task(42L, Priority.MEDIUM, LocalDate.of(2025, 3, 14));
+
+        TaskCursor cursor = TaskSort.DUE_DATE.cursorOf(task);
+        TaskCursor decoded = TaskCursor.decode(cursor.encode(), TaskSort.DUE_DATE);
+
+        assertEquals(cursor, decoded);
+        assertEquals(0, decoded.phase());
+        assertEquals("2025-03-14", decoded.key());
+        assertEquals(42L, decoded.id());
+    }
+
+    @Test
+    void cursorOf_TaskWithoutDueDate_ShouldBeInNullPhase() {
+        TaskSummary task = task(7L, Priority.MEDIUM, null);
+
+        TaskCursor cursor = TaskSort.DUE_DATE.cursorOf(task);
+
+        assertEquals(1, cursor.phase());
+        assertNull(cursor.key());
+    }
+
+    @Test
+    void cursorOf_PriorityShouldWalkFromHighToLow() {
+        assertEquals(0, TaskSort.PRIORITY.phaseOf(task(1L, Priority.HIGH, null)));
+        assertEquals(1, TaskSort.PRIORITY.phaseOf(task(1L, Priority.MEDIUM, null)));
+        assertEquals(2, TaskSort.PRIORITY.phaseOf(task(1L, Priority.LOW, null)));
+    }
+
+    @Test
+    void decode_WithDifferentSort_ShouldThrowException() {
+        String encoded = TaskSort.ID.cursorOf(task(1L, Priority.LOW, null)).encode();
+
+        assertThrows(IllegalArgumentException.class, () -> TaskCursor.decode(encoded, TaskSort.PRIORITY));
+    }
+
+    @Test
+    void decode_WithGarbage_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> TaskCursor.decode("not-a-cursor", TaskSort.ID));
+    }
+
+    @Test
+    void decode_WithUnparsableKey_ShouldThrowException() {
+        String encoded = new TaskCursor(TaskSort.DUE_DATE, 0, "tomorrow", 5L).encode();
+
+        assertThrows(IllegalArgumentException.class, () -> TaskCursor.decode(encoded, TaskSort.DUE_DATE));
+    }
+}
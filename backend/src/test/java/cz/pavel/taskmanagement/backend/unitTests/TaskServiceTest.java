@@ -9,6 +9,7 @@ import cz.pavel.taskmanagement.backend.exception.ResourceNotFoundException;
 import cz.pavel.taskmanagement.backend.repository.ProjectRepository;
 import cz.pavel.taskmanagement.backend.repository.TaskRepository;
 import cz.pavel.taskmanagement.backend.repository.UserRepository;
+import cz.pavel.taskmanagement.backend.search.TaskTextIndex;
 import cz.pavel.taskmanagement.backend.service.TaskService;
 import cz.pavel.taskmanagement.backend.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +19,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
 
@@ -38,6 +41,12 @@ public class TaskServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TaskTextIndex taskTextIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -169,4 +178,35 @@ public class TaskServiceTest {
 
     }
 
+    @Test
+    void getTasksByProject_WithDeletedProject_ShouldThrowException() {
+        ReflectionTestUtils.setField(taskService, "listProjections", true);
+        when(projectRepository.existsActiveById(1L))
+                .thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.getTasksByProject(1L));
+
+        verify(taskRepository, never()).findSummariesByProjectId(anyLong());
+    }
+
+    @Test
+    void getProjectBoard_WithDeletedProject_ShouldThrowException() {
+        when(projectRepository.existsActiveById(1L))
+                .thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.getProjectBoard(1L, null, null));
+
+        verify(taskRepository, never()).countByProjectIdGroupByStatus(anyLong());
+    }
+
+    @Test
+    void updateTask_InProjectPendingDeletion_ShouldThrowException() {
+        testProject.setDeleted(true);
+        when(taskRepository.findById(100L))
+                .thenReturn(Optional.of(testTask));
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.updateTask(100L, new TaskUpdateDTO()));
+
+        verify(taskRepository, never()).save(any());
+    }
 }
@@ -0,0 +1,88 @@
+package cz.pavel.taskmanagement.backend.unitTests;
+
+import cz.pavel.taskmanagement.backend.event.TaskChangedEvent;
+import cz.pavel.taskmanagement.backend.repository.TaskRepository;
+import cz.pavel.taskmanagement.backend.search.TaskTextIndex;
+import cz.pavel.taskmanagement.backend.search.TextAnalyzer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("TaskTextIndex Unit Tests")
+public class TaskTextIndexTest {
+
+    private TaskTextIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskTextIndex(mock(TaskRepository.class));
+        index.onTaskChanged(new TaskChangedEvent(1L, TaskChangedEvent.ChangeType.SAVED,
+                "Fix login page", "The login form crashes on submit", null, null));
+        index.onTaskChanged(new TaskChangedEvent(2L, TaskChangedEvent.ChangeType.SAVED,
+                "Write documentation", "Describe the login flow for new developers", null, null));
+        index.onTaskChanged(new TaskChangedEvent(3L, TaskChangedEvent.ChangeType.SAVED,
+                "Release", "Tag and publish version 1.0", null, null));
+    }
+
+    @Test
+    void tokenize_ShouldLowercaseStripAccentsAndStopWords() {
+        assertEquals(List.of("prilis", "zlutoucky", "kun", "login"),
+                TextAnalyzer.tokenize("Příliš žluťoučký kůň & the LOGIN"));
+    }
+
+    @Test
+    void search_ShouldRankTitleMatchesFirst() {
+        List<TaskTextIndex.Hit> hits = index.search("login", 10);
+
+        assertEquals(2, hits.size());
+        assertEquals(1L, hits.get(0).taskId());
+        assertEquals(2L, hits.get(1).taskId());
+    }
+
+    @Test
+    void search_AfterUpdate_ShouldUseNewText() {
+        index.onTaskChanged(new TaskChangedEvent(3L, TaskChangedEvent.ChangeType.SAVED,
+                "Release login fix", null, null, null));
+
+        assertEquals(3, index.search("login", 10).size());
+        assertTrue(index.search("publish", 10).isEmpty());
+    }
+
+    @Test
+    void search_AfterDelete_ShouldNotReturnTask() {
+        index.onTaskChanged(TaskChangedEvent.deleted(1L));
+
+        List<TaskTextIndex.Hit> hits = index.search("login", 10);
+        assertEquals(1, hits.size());
+        assertEquals(2L, hits.getFirst().taskId());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void search_AfterDeletesFromLongPostingList_ShouldReturnRemainingTasks() {
+        for (long id = 100; id < 300; id++) {
+            index.onTaskChanged(new TaskChangedEvent(id, TaskChangedEvent.ChangeType.SAVED,
+                    "Sprint task " + id, null, null, null));
+        }
+        for (long id = 100; id < 300; id += 2) {
+            index.onTaskChanged(TaskChangedEvent.deleted(id));
+        }
+        index.onTaskChanged(new TaskChangedEvent(101L, TaskChangedEvent.ChangeType.SAVED,
+                "Backlog grooming", null, null, null));
+
+        Set<Long> found = index.search("sprint", 500).stream()
+                .map(TaskTextIndex.Hit::taskId)
+                .collect(Collectors.toSet());
+        Set<Long> expected = LongStream.range(103, 300).filter(id -> id % 2 == 1).boxed().collect(Collectors.toSet());
+        assertEquals(expected, found);
+        assertEquals(103, index.size());
+    }
+}
@@ -0,0 +1,61 @@
+package cz.pavel.taskmanagement.backend.unitTests;
+
+import cz.pavel.taskmanagement.backend.schedule.TimingWheel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TimingWheel Unit Tests")
+public class TimingWheelTest {
+
+    private static final long START = 1_000_003L;
+
+    @Test
+    void advanceTo_ShouldExpireEveryTimerExactlyAtItsDeadline() {
+        TimingWheel<Long> wheel = new TimingWheel<>(START);
+        long[] delays = {1, 2, 63, 64, 65, 127, 4095, 4096, 4097, 10_000, 262_143, 262_144, 300_000};
+        for (long delay : delays) {
+            assertTrue(wheel.add(START + delay, START + delay));
+        }
+
+        Map<Long, Long> firedAt = new HashMap<>();
+        long end = START + 300_000;
+        for (long tick = START + 1; tick <= end; tick++) {
+            long current = tick;
+            wheel.advanceTo(tick, deadline -> firedAt.put(deadline, current));
+        }
+
+        assertEquals(delays.length, firedAt.size());
+        firedAt.forEach((deadline, tick) -> assertEquals(deadline, tick));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advanceTo_WithBigStep_ShouldExpireAllDueTimers() {
+        TimingWheel<String> wheel = new TimingWheel<>(START);
+        wheel.add(START + 10, "soon");
+        wheel.add(START + 5_000, "later");
+        wheel.add(START + 50_000, "much later");
+
+        List<String> expired = new ArrayList<>();
+        wheel.advanceTo(START + 5_000, expired::add);
+
+        assertEquals(List.of("soon", "later"), expired);
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    void add_WithPastDeadline_ShouldBeRejected() {
+        TimingWheel<String> wheel = new TimingWheel<>(START);
+
+        assertFalse(wheel.add(START, "now"));
+        assertFalse(wheel.add(START - 1, "past"));
+        assertEquals(0, wheel.size());
+    }
+}
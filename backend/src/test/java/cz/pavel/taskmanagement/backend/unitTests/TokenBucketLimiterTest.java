@@ -0,0 +1,89 @@
+package cz.pavel.taskmanagement.backend.unitTests;
+
+import cz.pavel.taskmanagement.backend.security.TokenBucketLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TokenBucketLimiter Unit Tests")
+public class TokenBucketLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+    private static final long START = 42 * SECOND;
+
+    @Test
+    void tryAcquire_ShouldAllowBurstThenDeny() {
+        TokenBucketLimiter<String> limiter = new TokenBucketLimiter<>(10, 5, 100);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire("alice", START));
+        }
+
+        long wait = limiter.tryAcquire("alice", START);
+        assertEquals(SECOND / 10, wait);
+    }
+
+    @Test
+    void tryAcquire_ShouldRefillOverTime() {
+        TokenBucketLimiter<String> limiter = new TokenBucketLimiter<>(10, 2, 100);
+        assertEquals(0, limiter.tryAcquire("alice", START));
+        assertEquals(0, limiter.tryAcquire("alice", START));
+        assertTrue(limiter.tryAcquire("alice", START) > 0);
+
+        assertEquals(0, limiter.tryAcquire("alice", START + SECOND / 10));
+        assertTrue(limiter.tryAcquire("alice", START + SECOND / 10) > 0);
+
+        assertEquals(0, limiter.tryAcquire("alice", START + 10 * SECOND));
+        assertEquals(0, limiter.tryAcquire("alice", START + 10 * SECOND));
+        assertTrue(limiter.tryAcquire("alice", START + 10 * SECOND) > 0);
+    }
+
+    @Test
+    void tryAcquire_ShouldKeepKeysIndependent() {
+        TokenBucketLimiter<String> limiter = new TokenBucketLimiter<>(1, 1, 100);
+
+        assertEquals(0, limiter.tryAcquire("alice", START));
+        assertTrue(limiter.tryAcquire("alice", START) > 0);
+        assertEquals(0, limiter.tryAcquire("bob", START));
+    }
+
+    @Test
+    void tryAcquire_WhenFull_ShouldRejectNewKeysButKeepExistingBuckets() {
+        TokenBucketLimiter<Integer> limiter = new TokenBucketLimiter<>(1, 1, 2);
+        assertEquals(0, limiter.tryAcquire(1, START));
+        assertEquals(0, limiter.tryAcquire(2, START));
+
+        // Both buckets are still refilling, so there is no room for a new client
+        assertTrue(limiter.tryAcquire(3, START) > 0);
+        assertEquals(2, limiter.size());
+
+        // Known clients are not affected by the rejected newcomers
+        assertEquals(0, limiter.tryAcquire(1, START + SECOND));
+
+        // Once refilled, idle buckets are dropped and new clients get their own again
+        assertEquals(0, limiter.tryAcquire(5, START + 3 * SECOND));
+        assertEquals(1, limiter.size());
+    }
+
+    @Test
+    void tryAcquire_WhenFull_ShouldSweepAtMostOncePerSecond() {
+        TokenBucketLimiter<Integer> limiter = new TokenBucketLimiter<>(10, 1, 2);
+        assertEquals(0, limiter.tryAcquire(1, START));
+        assertEquals(0, limiter.tryAcquire(2, START));
+        assertTrue(limiter.tryAcquire(3, START) > 0);
+
+        // The buckets are idle again, but the last sweep was too recent
+        assertEquals(SECOND / 2, limiter.tryAcquire(3, START + SECOND / 2));
+        assertEquals(2, limiter.size());
+
+        assertEquals(0, limiter.tryAcquire(3, START + SECOND));
+        assertEquals(1, limiter.size());
+    }
+
+    @Test
+    void constructor_WithInvalidRate_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketLimiter<String>(0, 1, 100));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketLimiter<String>(1, 0, 100));
+    }
+}
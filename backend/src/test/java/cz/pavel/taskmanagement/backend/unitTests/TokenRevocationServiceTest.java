@@ -0,0 +1,135 @@
+package cz.pavel.taskmanagement.backend.unitTests;
+
+import cz.pavel.taskmanagement.backend.dto.user.UserTokenVersion;
+import cz.pavel.taskmanagement.backend.event.UserTokenVersionChangedEvent;
+import cz.pavel.taskmanagement.backend.repository.RevokedTokenRepository;
+import cz.pavel.taskmanagement.backend.repository.UserRepository;
+import cz.pavel.taskmanagement.backend.security.TokenRevocationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenRevocationService Unit Tests")
+public class TokenRevocationServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private TokenRevocationService tokenRevocationService;
+
+    @Test
+    void revoke_FirstUse_ShouldStoreAndDenylistToken() {
+        Instant expiresAt = Instant.now().plus(1, ChronoUnit.DAYS);
+
+        assertTrue(tokenRevocationService.revoke("token-1", expiresAt));
+
+        verify(revokedTokenRepository).insert(eq("token-1"), any(LocalDateTime.class));
+        assertTrue(tokenRevocationService.isRevoked("token-1"));
+        assertFalse(tokenRevocationService.isRevoked("token-2"));
+    }
+
+    @Test
+    void revoke_TokenAlreadyStored_ShouldReturnFalseAndDenylistToken() {
+        // Another request or instance consumed the token first, the primary key rejects the second insert
+        when(revokedTokenRepository.insert(eq("token-1"), any(LocalDateTime.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        assertFalse(tokenRevocationService.revoke("token-1", Instant.now().plus(1, ChronoUnit.DAYS)));
+        assertTrue(tokenRevocationService.isRevoked("token-1"));
+    }
+
+    @Test
+    void onTokenVersionChanged_Bump_ShouldRejectOlderVersion() {
+        tokenRevocationService.register(7L, 0);
+        assertTrue(tokenRevocationService.isCurrent(7L, 0));
+
+        tokenRevocationService.onTokenVersionChanged(new UserTokenVersionChangedEvent(7L, 1));
+
+        assertFalse(tokenRevocationService.isCurrent(7L, 0));
+        assertTrue(tokenRevocationService.isCurrent(7L, 1));
+    }
+
+    @Test
+    void register_OlderVersionReadLate_ShouldNotMoveVersionBack() {
+        tokenRevocationService.onTokenVersionChanged(new UserTokenVersionChangedEvent(7L, 2));
+
+        tokenRevocationService.register(7L, 1);
+
+        assertFalse(tokenRevocationService.isCurrent(7L, 1));
+        assertTrue(tokenRevocationService.isCurrent(7L, 2));
+    }
+
+    @Test
+    void onTokenVersionChanged_UserDeleted_ShouldRejectAllTokensEvenAfterLateLogin() {
+        tokenRevocationService.register(7L, 3);
+
+        tokenRevocationService.onTokenVersionChanged(UserTokenVersionChangedEvent.deleted(7L));
+        tokenRevocationService.register(7L, 3);
+
+        assertFalse(tokenRevocationService.isCurrent(7L, 3));
+    }
+
+    @Test
+    void isCurrent_UnknownUser_ShouldLoadVersionOnceAndKeepIt() {
+        // User created on another instance after this one loaded its table
+        when(userRepository.findTokenVersionById(8L)).thenReturn(Optional.of(new UserTokenVersion(8L, 2)));
+
+        assertTrue(tokenRevocationService.isCurrent(8L, 2));
+        assertFalse(tokenRevocationService.isCurrent(8L, 1));
+
+        verify(userRepository, times(1)).findTokenVersionById(8L);
+    }
+
+    @Test
+    void isCurrent_MissingUser_ShouldRejectWithoutReadingAgain() {
+        when(userRepository.findTokenVersionById(99L)).thenReturn(Optional.empty());
+
+        assertFalse(tokenRevocationService.isCurrent(99L, 0));
+        assertFalse(tokenRevocationService.isCurrent(99L, 0));
+        assertFalse(tokenRevocationService.isCurrent(null, 0));
+
+        verify(userRepository, times(1)).findTokenVersionById(99L);
+    }
+
+    @Test
+    void refresh_ShouldApplyVersionsChangedAndUsersDeletedElsewhere() {
+        tokenRevocationService.register(7L, 0);
+        tokenRevocationService.register(8L, 0);
+        ReflectionTestUtils.setField(tokenRevocationService, "lastPoll", LocalDateTime.now());
+        when(userRepository.findTokenVersionsUpdatedSince(any(LocalDateTime.class)))
+                .thenReturn(List.of(new UserTokenVersion(7L, 1)));
+        when(userRepository.findExistingIds(any())).thenReturn(List.of(7L));
+
+        ReflectionTestUtils.invokeMethod(tokenRevocationService, "refresh");
+
+        assertFalse(tokenRevocationService.isCurrent(7L, 0));
+        assertTrue(tokenRevocationService.isCurrent(7L, 1));
+        assertFalse(tokenRevocationService.isCurrent(8L, 0));
+        verify(userRepository, never()).findTokenVersionById(any());
+    }
+}